@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sharding route cache advice.
+ */
+public final class ShardingRouteCacheAdvice extends AbstractInstanceMethodAdvice {
+    
+    private static final String RECORD_HIT_METHOD_NAME = "recordHit";
+    
+    private final MetricConfiguration requestConfig = new MetricConfiguration("sharding_route_cache_requests_total",
+            MetricCollectorType.COUNTER, "Total requests of sharding route cache", Arrays.asList("type", "result"), Collections.emptyMap());
+    
+    private final MetricConfiguration savedLatencyConfig = new MetricConfiguration("sharding_route_cache_saved_latency_micros",
+            MetricCollectorType.HISTOGRAM, "Estimated route latency micros saved by sharding route cache hits", Collections.emptyList(), Collections.singletonMap("buckets", getBuckets()));
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1);
+        result.put("factor", 2);
+        result.put("count", 13);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        String cacheType = String.valueOf(args[0]).toLowerCase();
+        if (!RECORD_HIT_METHOD_NAME.equals(method.getName())) {
+            MetricsCollectorRegistry.<CounterMetricsCollector>get(requestConfig, pluginType).inc(cacheType, "miss");
+            return;
+        }
+        MetricsCollectorRegistry.<CounterMetricsCollector>get(requestConfig, pluginType).inc(cacheType, "hit");
+        if (result instanceof Long) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(savedLatencyConfig, pluginType).observe((Long) result / 1000D);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLFederationSpillAdviceTest {
+    
+    private final MetricConfiguration spillConfig = new MetricConfiguration("sql_federation_spill_total", MetricCollectorType.COUNTER, null, Collections.singletonList("operator"));
+    
+    private final MetricConfiguration spillBytesConfig = new MetricConfiguration("sql_federation_spill_bytes", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(spillConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(spillBytesConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertCountSpill() {
+        SQLFederationSpillAdvice advice = new SQLFederationSpillAdvice();
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("recordSpill"), new Object[]{"SORT", 1024L}, null, "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("recordSpill"), new Object[]{"HASH_JOIN", 4096L}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(spillConfig, "FIXTURE").toString(), is("sort=1, hash_join=1"));
+        assertThat(MetricsCollectorRegistry.get(spillBytesConfig, "FIXTURE").toString(), is("4096"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ShardingRouteCacheAdviceTest {
+    
+    private final MetricConfiguration requestConfig = new MetricConfiguration("sharding_route_cache_requests_total", MetricCollectorType.COUNTER, null, Arrays.asList("type", "result"));
+    
+    private final MetricConfiguration savedLatencyConfig = new MetricConfiguration("sharding_route_cache_saved_latency_micros",
+            MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(requestConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(savedLatencyConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertCountHitAndMiss() {
+        ShardingRouteCacheAdvice advice = new ShardingRouteCacheAdvice();
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("recordMiss"), new Object[]{"DATA_NODE", 3000L}, null, "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("recordHit"), new Object[]{"DATA_NODE"}, 3000L, "FIXTURE");
+        advice.afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("recordHit"), new Object[]{"ROUTE_CONTEXT"}, 5000L, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(requestConfig, "FIXTURE").toString(), is("data_node.miss=1, data_node.hit=1, route_context.hit=1"));
+        assertThat(MetricsCollectorRegistry.get(savedLatencyConfig, "FIXTURE").toString(), is("5"));
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -52,22 +53,26 @@ public final class MetaDataLoader {
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
     /**
-     * Load meta data.
+     * Load meta data of every storage unit.
      *
      * @param materials meta data loader materials
-     * @return meta data map
+     * @return schema meta data map, key is storage unit name
      * @throws SQLException SQL exception
      */
-    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
-        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
+    public static Map<String, Collection<SchemaMetaData>> loadByStorageUnit(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<String, Collection<Future<Collection<SchemaMetaData>>>> futures = new LinkedHashMap<>(materials.size(), 1F);
         for (MetaDataLoaderMaterial each : materials) {
             DataTypeRegistry.load(each.getDataSource(), each.getStorageType().getType());
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            futures.computeIfAbsent(each.getStorageUnitName(), key -> new LinkedList<>()).add(EXECUTOR_SERVICE.submit(() -> load(each)));
         }
+        Map<String, Collection<SchemaMetaData>> result = new LinkedHashMap<>(futures.size(), 1F);
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Entry<String, Collection<Future<Collection<SchemaMetaData>>>> entry : futures.entrySet()) {
+                Collection<SchemaMetaData> schemaMetaDataList = new LinkedList<>();
+                for (Future<Collection<SchemaMetaData>> each : entry.getValue()) {
+                    schemaMetaDataList.addAll(each.get());
+                }
+                result.put(entry.getKey(), schemaMetaDataList);
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -80,6 +85,21 @@ public final class MetaDataLoader {
         return result;
     }
     
+    /**
+     * Load meta data.
+     *
+     * @param materials meta data loader materials
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
+        for (Collection<SchemaMetaData> each : loadByStorageUnit(materials).values()) {
+            merge(result, each);
+        }
+        return result;
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
@@ -29,9 +29,11 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.join.DialectJoinOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.keygen.DialectGeneratedKeyOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.pagination.DialectPaginationOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.parameter.DialectParameterOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DefaultSchemaOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectDriverQuerySystemCatalogOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectTableStatisticsOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
 import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
@@ -157,6 +159,15 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
         return new DialectGeneratedKeyOption(false);
     }
     
+    /**
+     * Get parameter option.
+     *
+     * @return parameter option
+     */
+    default DialectParameterOption getParameterOption() {
+        return new DialectParameterOption(2100);
+    }
+    
     /**
      * Get alter table option.
      *
@@ -165,4 +176,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default Optional<DialectAlterTableOption> getAlterTableOption() {
         return Optional.empty();
     }
+    
+    /**
+     * Get table statistics option.
+     *
+     * @return table statistics option
+     */
+    default Optional<DialectTableStatisticsOption> getTableStatisticsOption() {
+        return Optional.empty();
+    }
 }
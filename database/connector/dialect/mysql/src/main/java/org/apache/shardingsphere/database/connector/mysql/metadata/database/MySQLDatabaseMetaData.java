@@ -26,10 +26,13 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.datatype.DialectDataTypeOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.join.DialectJoinOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.keygen.DialectGeneratedKeyOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.parameter.DialectParameterOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectTableStatisticsOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.mysql.metadata.database.option.MySQLDataTypeOption;
 
 import java.sql.Connection;
+import java.util.Optional;
 
 /**
  * Database meta data of MySQL.
@@ -81,6 +84,16 @@ public final class MySQLDatabaseMetaData implements DialectDatabaseMetaData {
         return new DialectGeneratedKeyOption(true);
     }
     
+    @Override
+    public DialectParameterOption getParameterOption() {
+        return new DialectParameterOption(65535);
+    }
+    
+    @Override
+    public Optional<DialectTableStatisticsOption> getTableStatisticsOption() {
+        return Optional.of(new DialectTableStatisticsOption("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?"));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MySQLDatabaseMetaDataTest {
     
@@ -41,4 +42,14 @@ class MySQLDatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.LOW));
     }
+    
+    @Test
+    void assertGetParameterOption() {
+        assertThat(dialectDatabaseMetaData.getParameterOption().getMaxParameterCount(), is(65535));
+    }
+    
+    @Test
+    void assertGetTableStatisticsOption() {
+        assertTrue(dialectDatabaseMetaData.getTableStatisticsOption().isPresent());
+    }
 }
@@ -23,12 +23,15 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.IdentifierPatternType;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.datatype.DialectDataTypeOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.index.DialectIndexOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.parameter.DialectParameterOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectTableStatisticsOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.postgresql.metadata.database.option.PostgreSQLDataTypeOption;
 import org.apache.shardingsphere.database.connector.postgresql.metadata.database.option.PostgreSQLSchemaOption;
 
 import java.sql.Connection;
+import java.util.Optional;
 
 /**
  * Database meta data of PostgreSQL.
@@ -70,6 +73,16 @@ public final class PostgreSQLDatabaseMetaData implements DialectDatabaseMetaData
         return new DialectTransactionOption(false, false, false, true, false, Connection.TRANSACTION_READ_COMMITTED, true);
     }
     
+    @Override
+    public DialectParameterOption getParameterOption() {
+        return new DialectParameterOption(32767);
+    }
+    
+    @Override
+    public Optional<DialectTableStatisticsOption> getTableStatisticsOption() {
+        return Optional.of(new DialectTableStatisticsOption("SELECT c.reltuples FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = ? AND c.relname = ?"));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
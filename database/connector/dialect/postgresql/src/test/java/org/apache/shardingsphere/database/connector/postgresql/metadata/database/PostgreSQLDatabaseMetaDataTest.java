@@ -48,4 +48,9 @@ class PostgreSQLDatabaseMetaDataTest {
     void assertGetDefaultSchema() {
         assertThat(dialectDatabaseMetaData.getSchemaOption().getDefaultSchema(), is(Optional.of("public")));
     }
+    
+    @Test
+    void assertGetTableStatisticsOption() {
+        assertTrue(dialectDatabaseMetaData.getTableStatisticsOption().isPresent());
+    }
 }
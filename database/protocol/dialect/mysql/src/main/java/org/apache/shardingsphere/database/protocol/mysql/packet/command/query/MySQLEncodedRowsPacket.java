@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.Getter;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encoded rows packet for MySQL.
+ *
+ * <p>Row packets are encoded into one buffer together with their headers when they are added,
+ * the sequence IDs of the headers are filled and the encoded rows are written as they are when the packet is encoded by the channel.</p>
+ */
+public final class MySQLEncodedRowsPacket extends MySQLPacket implements ReferenceCounted {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 4;
+    
+    @Getter
+    private final ByteBuf byteBuf;
+    
+    private final MySQLPacketPayload payload;
+    
+    private int[] headerIndexes = new int[16];
+    
+    @Getter
+    private int rowCount;
+    
+    public MySQLEncodedRowsPacket(final ByteBuf byteBuf, final Charset charset) {
+        this.byteBuf = byteBuf;
+        payload = new MySQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Add row packet.
+     *
+     * @param rowPacket row packet
+     * @return added or not, row packet which has to be split into multiple packets will not be added
+     */
+    public boolean addRow(final MySQLPacket rowPacket) {
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        rowPacket.write((PacketPayload) payload);
+        int payloadLength = byteBuf.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength >= MAX_PAYLOAD_LENGTH) {
+            byteBuf.writerIndex(headerIndex);
+            return false;
+        }
+        byteBuf.setMediumLE(headerIndex, payloadLength);
+        if (rowCount == headerIndexes.length) {
+            headerIndexes = Arrays.copyOf(headerIndexes, rowCount << 1);
+        }
+        headerIndexes[rowCount++] = headerIndex;
+        return true;
+    }
+    
+    /**
+     * Fill sequence IDs of row packets.
+     *
+     * @param sequenceId sequence ID of channel
+     * @return encoded rows
+     */
+    public ByteBuf fillSequenceIds(final AtomicInteger sequenceId) {
+        for (int i = 0; i < rowCount; i++) {
+            byteBuf.setByte(headerIndexes[i] + 3, sequenceId.getAndIncrement());
+        }
+        return byteBuf;
+    }
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes());
+    }
+    
+    @Override
+    public int refCnt() {
+        return byteBuf.refCnt();
+    }
+    
+    @Override
+    public MySQLEncodedRowsPacket retain() {
+        byteBuf.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedRowsPacket retain(final int increment) {
+        byteBuf.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedRowsPacket touch() {
+        byteBuf.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedRowsPacket touch(final Object hint) {
+        byteBuf.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return byteBuf.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return byteBuf.release(decrement);
+    }
+}
@@ -25,6 +25,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLEncodedRowsPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -184,6 +187,21 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    void assertEncodeEncodedRows() {
+        MySQLEncodedRowsPacket packet = new MySQLEncodedRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        packet.addRow(new MySQLTextResultSetRowPacket(Collections.singletonList("foo")));
+        packet.addRow(new MySQLTextResultSetRowPacket(Collections.singletonList("bar")));
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(2);
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, packet, actual);
+        assertThat(actual, is(packet.getByteBuf()));
+        assertThat(actual.getByte(3), is((byte) 2));
+        assertThat(actual.getByte(11), is((byte) 3));
+        assertThat(packet.refCnt(), is(1));
+        assertThat(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().get(), is(4));
+    }
+    
     @Test
     void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLEncodedRowsPacketTest {
+    
+    @Test
+    void assertAddRow() {
+        MySQLEncodedRowsPacket packet = new MySQLEncodedRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(packet.addRow(new MySQLTextResultSetRowPacket(Arrays.asList("foo", null))));
+        ByteBuf actual = packet.getByteBuf();
+        assertThat(packet.getRowCount(), is(1));
+        assertThat(actual.readableBytes(), is(9));
+        assertThat(actual.getMediumLE(0), is(5));
+        assertThat(actual.getByte(4), is((byte) 3));
+        assertThat(actual.getUnsignedByte(8), is((short) 0xfb));
+    }
+    
+    @Test
+    void assertAddRowWhichRequiresMultiplePackets() {
+        MySQLEncodedRowsPacket packet = new MySQLEncodedRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(packet.addRow(new MySQLTextResultSetRowPacket(Collections.singletonList("foo"))));
+        assertFalse(packet.addRow(new MySQLPacket() {
+            
+            @Override
+            protected void write(final MySQLPacketPayload payload) {
+                payload.getByteBuf().writeZero(0xFFFFFF);
+            }
+        }));
+        assertThat(packet.getRowCount(), is(1));
+        assertThat(packet.getByteBuf().readableBytes(), is(8));
+    }
+    
+    @Test
+    void assertFillSequenceIds() {
+        MySQLEncodedRowsPacket packet = new MySQLEncodedRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        for (int i = 0; i < 20; i++) {
+            packet.addRow(new MySQLTextResultSetRowPacket(Collections.singletonList("foo")));
+        }
+        ByteBuf actual = packet.fillSequenceIds(new AtomicInteger(1));
+        for (int i = 0; i < 20; i++) {
+            assertThat(actual.getByte(i * 8 + 3), is((byte) (i + 1)));
+        }
+    }
+    
+    @Test
+    void assertRelease() {
+        MySQLEncodedRowsPacket packet = new MySQLEncodedRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertThat(packet.retain().refCnt(), is(2));
+        assertFalse(packet.release());
+        assertTrue(packet.release());
+    }
+    
+    @Test
+    void assertWrite() {
+        MySQLEncodedRowsPacket packet = new MySQLEncodedRowsPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        packet.addRow(new MySQLTextResultSetRowPacket(Collections.singletonList("foo")));
+        ByteBuf actual = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(actual, StandardCharsets.UTF_8));
+        assertThat(actual, is(packet.getByteBuf()));
+        assertThat(packet.getByteBuf().readableBytes(), is(8));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Encoded rows buffer for PostgreSQL.
+ *
+ * <p>Row packets are encoded into one buffer together with their message headers, so that the buffer can be written to channel without being encoded again.</p>
+ */
+public final class PostgreSQLEncodedRowsBuffer {
+    
+    private static final int MESSAGE_TYPE_LENGTH = 1;
+    
+    @Getter
+    private final ByteBuf byteBuf;
+    
+    private final PostgreSQLPacketPayload payload;
+    
+    @Getter
+    private int rowCount;
+    
+    public PostgreSQLEncodedRowsBuffer(final ByteBuf byteBuf, final Charset charset) {
+        this.byteBuf = byteBuf;
+        payload = new PostgreSQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Add row packet.
+     *
+     * @param rowPacket row packet
+     */
+    public void addRow(final PostgreSQLIdentifierPacket rowPacket) {
+        final int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeByte(rowPacket.getIdentifier().getValue());
+        byteBuf.writeInt(0);
+        rowPacket.write((PacketPayload) payload);
+        byteBuf.setInt(headerIndex + MESSAGE_TYPE_LENGTH, byteBuf.writerIndex() - headerIndex - MESSAGE_TYPE_LENGTH);
+        rowCount++;
+    }
+}
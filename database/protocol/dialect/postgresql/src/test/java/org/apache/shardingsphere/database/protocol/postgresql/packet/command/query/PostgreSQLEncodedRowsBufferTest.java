@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLEncodedRowsBufferTest {
+    
+    @Test
+    void assertAddRow() {
+        PostgreSQLEncodedRowsBuffer buffer = new PostgreSQLEncodedRowsBuffer(Unpooled.buffer(), StandardCharsets.UTF_8);
+        buffer.addRow(new PostgreSQLDataRowPacket(Arrays.asList("foo", null)));
+        buffer.addRow(new PostgreSQLDataRowPacket(Collections.singletonList("bar")));
+        ByteBuf actual = buffer.getByteBuf();
+        assertThat(buffer.getRowCount(), is(2));
+        assertThat(actual.readByte(), is((byte) 'D'));
+        assertThat(actual.readInt(), is(17));
+        assertThat(actual.readShort(), is((short) 2));
+        assertThat(actual.readInt(), is(3));
+        assertThat(actual.readCharSequence(3, StandardCharsets.UTF_8).toString(), is("foo"));
+        assertThat(actual.readInt(), is(-1));
+        assertThat(actual.readByte(), is((byte) 'D'));
+        assertThat(actual.readInt(), is(13));
+        assertThat(actual.skipBytes(9).readableBytes(), is(0));
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -63,6 +65,20 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return cryptographicAlgorithm.decrypt(cipherValue);
     }
     
+    @Override
+    public List<Object> encryptBatch(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : cryptographicAlgorithm.encryptBatch(plainValues)) {
+            result.add(null == each ? null : String.valueOf(each));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Object> decryptBatch(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        return cryptographicAlgorithm.decryptBatch(cipherValues);
+    }
+    
     @Override
     public AlgorithmConfiguration toConfiguration() {
         return new AlgorithmConfiguration(getType(),
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
@@ -30,6 +32,8 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -43,18 +47,37 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final Map<Integer, Optional<DecryptContext>> decryptContexts;
+    
     public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
         super(mergedResult);
         this.database = database;
         this.metaData = metaData;
         this.selectStatementContext = selectStatementContext;
+        decryptContexts = new HashMap<>();
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<DecryptContext> decryptContext = decryptContexts.computeIfAbsent(columnIndex, this::findDecryptContext);
+        if (!decryptContext.isPresent()) {
+            return getMergedResult().getValue(columnIndex, type);
+        }
+        Object cipherValue = getMergedResult().getValue(columnIndex, Object.class);
+        DecryptContext context = decryptContext.get();
+        try {
+            return context.getEncryptColumn().getCipher().decrypt(context.getDatabaseName(), context.getSchemaName(), context.getTableName(), context.getColumnName(), cipherValue);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(context.getDatabaseName(), context.getTableName(), context.getColumnName()), ex);
+        }
+    }
+    
+    private Optional<DecryptContext> findDecryptContext(final int columnIndex) {
         Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
         if (!columnSegmentBoundInfo.isPresent()) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
         String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
@@ -63,18 +86,26 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
                 : this.database;
         Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
         if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = getMergedResult().getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName = selectStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        return Optional.of(new DecryptContext(encryptColumn, database.getName(), schemaName, originalTableName, originalColumnName));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class DecryptContext {
+        
+        private final EncryptColumn encryptColumn;
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final String columnName;
     }
 }
@@ -22,13 +22,13 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegist
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.encrypt.rule.table.EncryptTable;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 
 import java.util.ArrayList;
@@ -77,19 +77,47 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = rule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<Integer> rowIndexes = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
-                }
+            InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(count);
+            if (!each.isEmpty() && insertValueContext.getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                rowIndexes.add(count);
+                originalValues.add(insertValueContext.getLiteralValue(columnIndex).orElse(null));
             }
             count++;
         }
+        if (!rowIndexes.isEmpty()) {
+            encryptInsertValues(paramBuilder, insertStatementContext, encryptColumn, columnIndex, rowIndexes, originalValues, schemaName, tableName);
+        }
+    }
+    
+    private void encryptInsertValues(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final EncryptColumn encryptColumn, final int columnIndex,
+                                     final List<Integer> rowIndexes, final List<Object> originalValues, final String schemaName, final String tableName) {
+        String columnName = encryptColumn.getName();
+        List<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValues);
+        List<Object> assistedQueryValues = encryptColumn.getAssistedQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, columnName, originalValues)).orElse(null);
+        List<Object> likeQueryValues = encryptColumn.getLikeQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, columnName, originalValues)).orElse(null);
+        for (int i = 0; i < rowIndexes.size(); i++) {
+            int rowIndex = rowIndexes.get(i);
+            int paramIndex = insertStatementContext.getInsertValueContexts().get(rowIndex).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(rowIndex);
+            standardParamBuilder.addReplacedParameters(paramIndex, cipherValues.get(i));
+            Collection<Object> addedParams = new LinkedList<>();
+            if (null != assistedQueryValues) {
+                addedParams.add(assistedQueryValues.get(i));
+            }
+            if (null != likeQueryValues) {
+                addedParams.add(likeQueryValues.get(i));
+            }
+            if (!addedParams.isEmpty()) {
+                if (!standardParamBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
+                    standardParamBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
+                }
+                standardParamBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
+            }
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -102,23 +130,4 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
         return columnNames.indexOf(encryptLogicColumnName);
     }
-    
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
-        String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (!addedParams.isEmpty()) {
-            if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
-                paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
-            }
-            paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
-        }
-    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.column.item;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Batch encrypt utility class of column items.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BatchEncryptUtils {
+    
+    /**
+     * Encrypt non-null values with one batch call of encryptor, and keep null values at their positions.
+     *
+     * @param encryptor encryptor
+     * @param algorithmSQLContext algorithm SQL context
+     * @param originalValues original values
+     * @return encrypted values
+     */
+    static List<Object> encrypt(final EncryptAlgorithm encryptor, final AlgorithmSQLContext algorithmSQLContext, final List<Object> originalValues) {
+        List<Object> nonNullValues = new ArrayList<>(originalValues.size());
+        for (Object each : originalValues) {
+            if (null != each) {
+                nonNullValues.add(each);
+            }
+        }
+        Iterator<Object> encryptedValues = nonNullValues.isEmpty() ? Collections.emptyIterator() : encryptor.encryptBatch(nonNullValues, algorithmSQLContext).iterator();
+        List<Object> result = new ArrayList<>(originalValues.size());
+        for (Object each : originalValues) {
+            result.add(null == each ? null : encryptedValues.next());
+        }
+        return result;
+    }
+}
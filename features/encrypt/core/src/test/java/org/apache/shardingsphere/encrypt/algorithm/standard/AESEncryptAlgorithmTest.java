@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -55,6 +57,16 @@ class AESEncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
     }
     
+    @Test
+    void assertEncryptBatch() {
+        assertThat(encryptAlgorithm.encryptBatch(Arrays.asList("test", null), mock(AlgorithmSQLContext.class)), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)));
+    }
+    
+    @Test
+    void assertDecryptBatch() {
+        assertThat(encryptAlgorithm.decryptBatch(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null), mock(AlgorithmSQLContext.class)), is(Arrays.asList("test", null)));
+    }
+    
     @Test
     void assertToConfiguration() {
         AlgorithmConfiguration actual = encryptAlgorithm.toConfiguration();
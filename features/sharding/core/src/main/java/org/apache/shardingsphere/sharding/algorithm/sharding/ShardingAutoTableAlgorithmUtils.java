@@ -40,7 +40,18 @@ public final class ShardingAutoTableAlgorithmUtils {
      * @return matched target name
      */
     public static Optional<String> findMatchedTargetName(final Collection<String> availableTargetNames, final String suffix, final DataNodeInfo dataNodeInfo) {
-        String targetName = dataNodeInfo.getPrefix() + Strings.padStart(suffix, dataNodeInfo.getSuffixMinLength(), dataNodeInfo.getPaddingChar());
+        String targetName = getTargetName(suffix, dataNodeInfo);
         return availableTargetNames.contains(targetName) ? Optional.of(targetName) : Optional.empty();
     }
+    
+    /**
+     * Get target name.
+     *
+     * @param suffix suffix
+     * @param dataNodeInfo data node info
+     * @return target name
+     */
+    public static String getTargetName(final String suffix, final DataNodeInfo dataNodeInfo) {
+        return dataNodeInfo.getPrefix() + Strings.padStart(suffix, dataNodeInfo.getSuffixMinLength(), dataNodeInfo.getPaddingChar());
+    }
 }
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
-import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -32,7 +31,7 @@ import java.util.Properties;
 /**
  * Hash sharding algorithm.
  */
-public final class HashModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class HashModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ModShardingSuffixAlgorithm {
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
@@ -62,6 +61,16 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return availableTargetNames;
     }
     
+    @Override
+    public int getShardingSuffixIndex(final Comparable<?> shardingValue) {
+        return null == shardingValue ? -1 : (int) (hashShardingValue(shardingValue) % shardingCount);
+    }
+    
+    @Override
+    public String getShardingSuffix(final int shardingSuffixIndex) {
+        return String.valueOf(shardingSuffixIndex);
+    }
+    
     private long hashShardingValue(final Object shardingValue) {
         return Math.abs((long) shardingValue.hashCode());
     }
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
-import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -35,7 +34,7 @@ import java.util.Properties;
 /**
  * Modulo sharding algorithm.
  */
-public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ModShardingSuffixAlgorithm {
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
@@ -129,6 +128,19 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return result;
     }
     
+    @Override
+    public int getShardingSuffixIndex(final Comparable<?> shardingValue) {
+        if (!(shardingValue instanceof Number) || 0 != startOffset || 0 != stopOffset) {
+            return -1;
+        }
+        return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount);
+    }
+    
+    @Override
+    public String getShardingSuffix(final int shardingSuffixIndex) {
+        return getShardingResultSuffix(String.valueOf(shardingSuffixIndex));
+    }
+    
     private String getShardingResultSuffix(final String shardingResultSuffix) {
         return zeroPadding ? fillZero(shardingResultSuffix) : shardingResultSuffix;
     }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
+
+import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+
+/**
+ * Mod sharding suffix algorithm, which calculates sharding suffix index of precise sharding value without allocation.
+ */
+public interface ModShardingSuffixAlgorithm extends ShardingAutoTableAlgorithm {
+    
+    /**
+     * Get sharding suffix index.
+     *
+     * @param shardingValue precise sharding value
+     * @return sharding suffix index between 0 and auto tables amount, or -1 if sharding value needs to be sharded by the general way
+     */
+    int getShardingSuffixIndex(Comparable<?> shardingValue);
+    
+    /**
+     * Get sharding suffix.
+     *
+     * @param shardingSuffixIndex sharding suffix index
+     * @return sharding suffix
+     */
+    String getShardingSuffix(int shardingSuffixIndex);
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
@@ -30,11 +32,17 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final Cache<ShardingDataNodeCacheKey, DataNode> dataNodeCache;
+    
+    @Getter
+    private final ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
+        dataNodeCache = buildRouteCache(cacheOptions);
     }
     
-    private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+    private <K, V> Cache<K, V> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
         if (cacheOptions.isSoftValues()) {
             result.softValues();
@@ -61,4 +69,30 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Cache data node of sharding value.
+     *
+     * @param key data node cache key
+     * @param dataNode data node
+     */
+    public void putDataNode(final ShardingDataNodeCacheKey key, final DataNode dataNode) {
+        dataNodeCache.put(key, dataNode);
+    }
+    
+    /**
+     * Get cached data node of sharding value.
+     *
+     * @param key data node cache key
+     * @return optional copy of cached data node
+     */
+    public Optional<DataNode> getDataNode(final ShardingDataNodeCacheKey key) {
+        DataNode cachedDataNode = dataNodeCache.getIfPresent(key);
+        if (null == cachedDataNode) {
+            return Optional.empty();
+        }
+        DataNode result = new DataNode(cachedDataNode.getDataSourceName(), cachedDataNode.getTableName());
+        result.setSchemaName(cachedDataNode.getSchemaName());
+        return Optional.of(result);
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of sharding route cache.
+ */
+public final class ShardingRouteCacheStatistics {
+    
+    private final Map<ShardingRouteCacheType, Counter> counters = new EnumMap<>(ShardingRouteCacheType.class);
+    
+    public ShardingRouteCacheStatistics() {
+        for (ShardingRouteCacheType each : ShardingRouteCacheType.values()) {
+            counters.put(each, new Counter());
+        }
+    }
+    
+    /**
+     * Record cache hit.
+     *
+     * @param cacheType cache type
+     * @return estimated nanos saved by the hit, which is the average load nanos of previous misses
+     */
+    public long recordHit(final ShardingRouteCacheType cacheType) {
+        Counter counter = counters.get(cacheType);
+        counter.hitCount.increment();
+        long missCount = counter.missCount.sum();
+        return 0L == missCount ? 0L : counter.loadNanos.sum() / missCount;
+    }
+    
+    /**
+     * Record cache miss.
+     *
+     * @param cacheType cache type
+     * @param loadNanos nanos spent on calculating the missed route
+     */
+    public void recordMiss(final ShardingRouteCacheType cacheType, final long loadNanos) {
+        Counter counter = counters.get(cacheType);
+        counter.missCount.increment();
+        counter.loadNanos.add(loadNanos);
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @param cacheType cache type
+     * @return hit count
+     */
+    public long getHitCount(final ShardingRouteCacheType cacheType) {
+        return counters.get(cacheType).hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @param cacheType cache type
+     * @return miss count
+     */
+    public long getMissCount(final ShardingRouteCacheType cacheType) {
+        return counters.get(cacheType).missCount.sum();
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @param cacheType cache type
+     * @return hit rate, or 0 if cache has not been requested
+     */
+    public double getHitRate(final ShardingRouteCacheType cacheType) {
+        long hitCount = getHitCount(cacheType);
+        long requestCount = hitCount + getMissCount(cacheType);
+        return 0L == requestCount ? 0D : (double) hitCount / requestCount;
+    }
+    
+    /**
+     * Get estimated saved nanos.
+     *
+     * @param cacheType cache type
+     * @return estimated saved nanos, which is hit count multiplied by average load nanos of misses
+     */
+    public long getEstimatedSavedNanos(final ShardingRouteCacheType cacheType) {
+        Counter counter = counters.get(cacheType);
+        long missCount = counter.missCount.sum();
+        return 0L == missCount ? 0L : counter.hitCount.sum() * (counter.loadNanos.sum() / missCount);
+    }
+    
+    private static final class Counter {
+        
+        private final LongAdder hitCount = new LongAdder();
+        
+        private final LongAdder missCount = new LongAdder();
+        
+        private final LongAdder loadNanos = new LongAdder();
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.ite
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,7 +59,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
-        if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
+        if (isSingleQueryResult(queryResults) && !isNeedAggregateRewrite(sqlStatementContext)) {
             return new IteratorStreamMergedResult(queryResults);
         }
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
@@ -68,6 +69,16 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
+    private boolean isSingleQueryResult(final List<QueryResult> queryResults) {
+        // Iterate instead of calling size(), query results collected in completion order only need to wait for the second finished one.
+        Iterator<QueryResult> iterator = queryResults.iterator();
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        iterator.next();
+        return !iterator.hasNext();
+    }
+    
     private boolean isNeedAggregateRewrite(final SQLStatementContext sqlStatementContext) {
         return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
     }
@@ -128,7 +139,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
         PaginationContext paginationContext = selectStatementContext.getPaginationContext();
-        if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
+        if (!paginationContext.isHasPagination() || isSingleQueryResult(queryResults)) {
             return mergedResult;
         }
         Optional<PaginationDecoratorMergedResultBuilder> paginationDecoratorMergedResultBuilder = DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType);
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open addressing hash table keyed by group by values.
+ *
+ * <p>Keys are probed with a reusable array and only copied when a new group is inserted, hash codes are cached per slot for probing and resizing.</p>
+ *
+ * @param <V> type of value
+ */
+final class GroupByHashTable<V> {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final List<Object[]> keys = new ArrayList<>(INITIAL_CAPACITY);
+    
+    private final List<V> values = new ArrayList<>(INITIAL_CAPACITY);
+    
+    private int[] slotHashes = new int[INITIAL_CAPACITY];
+    
+    private int[] slotIndexes = new int[INITIAL_CAPACITY];
+    
+    private int mask = INITIAL_CAPACITY - 1;
+    
+    /**
+     * Calculate hash of group by values.
+     *
+     * @param groupValues group by values
+     * @return hash
+     */
+    static int hash(final Object[] groupValues) {
+        int result = Arrays.hashCode(groupValues);
+        return result ^ (result >>> 16);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param groupValues group by values
+     * @param hash hash of group by values
+     * @return value, null if absent
+     */
+    V get(final Object[] groupValues, final int hash) {
+        for (int slot = hash & mask; 0 != slotIndexes[slot]; slot = (slot + 1) & mask) {
+            if (hash == slotHashes[slot] && Arrays.equals(keys.get(slotIndexes[slot] - 1), groupValues)) {
+                return values.get(slotIndexes[slot] - 1);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Put value of absent group by values.
+     *
+     * @param groupValues group by values, which will be held by hash table
+     * @param hash hash of group by values
+     * @param value value
+     */
+    void put(final Object[] groupValues, final int hash, final V value) {
+        if ((values.size() + 1) * 4 > slotIndexes.length * 3) {
+            resize();
+        }
+        keys.add(groupValues);
+        values.add(value);
+        insert(hash, values.size());
+    }
+    
+    private void resize() {
+        int[] originalSlotHashes = slotHashes;
+        int[] originalSlotIndexes = slotIndexes;
+        slotHashes = new int[originalSlotIndexes.length << 1];
+        slotIndexes = new int[originalSlotIndexes.length << 1];
+        mask = slotIndexes.length - 1;
+        for (int i = 0; i < originalSlotIndexes.length; i++) {
+            if (0 != originalSlotIndexes[i]) {
+                insert(originalSlotHashes[i], originalSlotIndexes[i]);
+            }
+        }
+    }
+    
+    private void insert(final int hash, final int index) {
+        int slot = hash & mask;
+        while (0 != slotIndexes[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        slotHashes[slot] = hash;
+        slotIndexes[slot] = index;
+    }
+    
+    /**
+     * Get values in insertion order.
+     *
+     * @return values
+     */
+    List<V> values() {
+        return values;
+    }
+}
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.exception.core.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
@@ -39,13 +42,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Memory merged result for group by.
@@ -60,43 +58,66 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        List<OrderByItem> groupByItems = new ArrayList<>(selectStatementContext.getGroupByContext().getItems());
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        GroupByHashTable<GroupByAggregationRow> groupByHashTable = new GroupByHashTable<>();
+        Object[] groupValues = new Object[groupByItems.size()];
+        List<List<Comparable<?>>> aggregationValues = createAggregationValues(aggregationProjections.size());
         for (QueryResult each : queryResults) {
             while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                loadGroupValues(each, groupByItems, groupValues);
+                int hash = GroupByHashTable.hash(groupValues);
+                GroupByAggregationRow aggregationRow = groupByHashTable.get(groupValues, hash);
+                if (null == aggregationRow) {
+                    aggregationRow = new GroupByAggregationRow(new MemoryQueryResultRow(each), createAggregationUnits(aggregationProjections));
+                    groupByHashTable.put(groupValues.clone(), hash, aggregationRow);
+                }
+                aggregate(each, aggregationProjections, aggregationValues, aggregationRow.getAggregationUnits());
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+        List<MemoryQueryResultRow> rows = getAggregatedRows(groupByHashTable.values(), aggregationProjections);
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return getMemoryResultSetRows(selectStatementContext, rows, valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private List<List<Comparable<?>>> createAggregationValues(final int aggregationSize) {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationSize);
+        for (int i = 0; i < aggregationSize; i++) {
+            result.add(new ArrayList<>(2));
         }
-        aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(),
-                        input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, input.getSeparator().orElse(null)))));
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void loadGroupValues(final QueryResult queryResult, final List<OrderByItem> groupByItems, final Object[] groupValues) throws SQLException {
+        for (int i = 0; i < groupValues.length; i++) {
+            groupValues[i] = queryResult.getValue(groupByItems.get(i).getIndex(), Object.class);
+        }
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(
+                    aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, aggregationProjection.getSeparator().orElse(null));
+        }
+        return result;
+    }
+    
+    private void aggregate(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections,
+                           final List<List<Comparable<?>>> aggregationValues, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationProjection));
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                for (AggregationProjection derived : aggregationProjection.getDerivedAggregationProjections()) {
                     values.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(values);
         }
     }
     
@@ -106,13 +127,15 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private List<MemoryQueryResultRow> getAggregatedRows(final List<GroupByAggregationRow> aggregationRows, final List<AggregationProjection> aggregationProjections) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(aggregationRows.size());
+        for (GroupByAggregationRow each : aggregationRows) {
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                each.getRow().setCell(aggregationProjections.get(i).getIndex(), each.getAggregationUnits()[i].getResult());
             }
+            result.add(each.getRow());
         }
+        return result;
     }
     
     private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -140,8 +163,8 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+                                                              final List<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
             boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
             boolean hasAggregations = !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty();
             if (hasGroupBy || !hasAggregations) {
@@ -150,9 +173,8 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
             Object[] data = generateReturnData(selectStatementContext);
             return Collections.singletonList(new MemoryQueryResultRow(data));
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        rows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return rows;
     }
     
     private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
@@ -165,4 +187,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByAggregationRow {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
 }
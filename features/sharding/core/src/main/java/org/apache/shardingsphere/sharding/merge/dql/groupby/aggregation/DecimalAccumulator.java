@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ *
+ * <p>Integral values are accumulated on primitive long until overflow or a non integral value arrives, then accumulation continues on big decimal.</p>
+ */
+final class DecimalAccumulator {
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    private boolean present;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        present = true;
+        if (null == decimalValue && isIntegral(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = longValue + addend;
+            if (((longValue ^ sum) & (addend ^ sum)) >= 0L) {
+                longValue = sum;
+                return;
+            }
+        }
+        if (null == decimalValue) {
+            decimalValue = BigDecimal.valueOf(longValue);
+        }
+        decimalValue = decimalValue.add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get accumulated value.
+     *
+     * @return accumulated value, null if no value added
+     */
+    BigDecimal get() {
+        if (!present) {
+            return null;
+        }
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue;
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
-import com.cedarsoftware.util.CaseInsensitiveSet;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -28,7 +27,10 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
-import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.cache.checker.algorithm.CacheableShardingAlgorithmChecker;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingDataNodeCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheType;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedShardingDataSourceRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.NoShardingDatabaseRouteInfoException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -37,20 +39,20 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShard
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
-import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -92,10 +94,8 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
     }
     
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final ShardingTable shardingTable) {
-        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
-        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(shardingTable);
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(shardingTable);
         if (isRoutingByHint(shardingRule, shardingTable)) {
             return routeByHint(shardingTable, databaseShardingStrategy, tableShardingStrategy);
         }
@@ -140,15 +140,81 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(shardingTable,
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+            List<ShardingConditionValue> databaseShardingValues = getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each);
+            List<ShardingConditionValue> tableShardingValues = getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each);
+            Optional<ListShardingConditionValue<?>> cacheableShardingValue = findCacheableShardingValue(shardingRule, databaseShardingStrategy, databaseShardingValues,
+                    tableShardingStrategy, tableShardingValues);
+            Collection<DataNode> dataNodes = cacheableShardingValue.isPresent()
+                    ? routeByCachedDataNodes(shardingRule.getShardingCache().getRouteCache(), shardingTable, cacheableShardingValue.get(),
+                            databaseShardingStrategy, !databaseShardingValues.isEmpty(), tableShardingStrategy, !tableShardingValues.isEmpty())
+                    : route0(shardingTable, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private Optional<ListShardingConditionValue<?>> findCacheableShardingValue(final ShardingRule shardingRule,
+                                                                             final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
+                                                                             final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        if (!shardingRule.isShardingCacheEnabled() || !isCacheableShardingStrategy(databaseShardingStrategy) || !isCacheableShardingStrategy(tableShardingStrategy)) {
+            return Optional.empty();
+        }
+        Collection<ShardingConditionValue> shardingValues = Collections.newSetFromMap(new IdentityHashMap<>(2));
+        shardingValues.addAll(databaseShardingValues);
+        shardingValues.addAll(tableShardingValues);
+        if (1 != shardingValues.size()) {
+            return Optional.empty();
+        }
+        ShardingConditionValue result = shardingValues.iterator().next();
+        return isCacheableShardingValue(result) ? Optional.of((ListShardingConditionValue<?>) result) : Optional.empty();
+    }
+    
+    private boolean isCacheableShardingStrategy(final ShardingStrategy shardingStrategy) {
+        return shardingStrategy instanceof NoneShardingStrategy || shardingStrategy instanceof StandardShardingStrategy
+                && CacheableShardingAlgorithmChecker.isCacheableShardingAlgorithm(((StandardShardingStrategy) shardingStrategy).getShardingAlgorithm());
+    }
+    
+    private boolean isCacheableShardingValue(final ShardingConditionValue shardingConditionValue) {
+        if (!(shardingConditionValue instanceof ListShardingConditionValue)) {
+            return false;
+        }
+        for (Object each : ((ListShardingConditionValue<?>) shardingConditionValue).getValues()) {
+            if (!(each instanceof Number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<DataNode> routeByCachedDataNodes(final ShardingRouteCache routeCache, final ShardingTable shardingTable, final ListShardingConditionValue<?> shardingConditionValue,
+                                                        final ShardingStrategy databaseShardingStrategy, final boolean isDatabaseShardingValuePresent,
+                                                        final ShardingStrategy tableShardingStrategy, final boolean isTableShardingValuePresent) {
+        Collection<DataNode> result = new LinkedHashSet<>(shardingConditionValue.getValues().size(), 1F);
+        for (Object each : shardingConditionValue.getValues()) {
+            ShardingDataNodeCacheKey cacheKey = new ShardingDataNodeCacheKey(
+                    logicTableName, shardingConditionValue.getColumnName(), isDatabaseShardingValuePresent, isTableShardingValuePresent, each);
+            Optional<DataNode> cachedDataNode = routeCache.getDataNode(cacheKey);
+            if (cachedDataNode.isPresent()) {
+                routeCache.getStatistics().recordHit(ShardingRouteCacheType.DATA_NODE);
+                result.add(cachedDataNode.get());
+                continue;
+            }
+            long startNanos = System.nanoTime();
+            List<ShardingConditionValue> shardingValues = Collections.singletonList(
+                    new ListShardingConditionValue<>(shardingConditionValue.getColumnName(), shardingConditionValue.getTableName(), Collections.singletonList(each)));
+            Collection<DataNode> dataNodes = route0(shardingTable, databaseShardingStrategy, isDatabaseShardingValuePresent ? shardingValues : Collections.emptyList(),
+                    tableShardingStrategy, isTableShardingValuePresent ? shardingValues : Collections.emptyList());
+            routeCache.getStatistics().recordMiss(ShardingRouteCacheType.DATA_NODE, System.nanoTime() - startNanos);
+            if (1 == dataNodes.size()) {
+                DataNode dataNode = dataNodes.iterator().next();
+                routeCache.putDataNode(cacheKey, new DataNode(dataNode.getDataSourceName(), dataNode.getTableName()));
+            }
+            result.addAll(dataNodes);
+        }
+        return result;
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -237,7 +303,7 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
         for (ShardingConditionValue each : shardingCondition.getValues()) {
             Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getTableName());
             if ((logicTableName.equalsIgnoreCase(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName))
-                    && new CaseInsensitiveSet<>(shardingColumns).contains(each.getColumnName())) {
+                    && shardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
@@ -278,10 +344,4 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
         }
         return result;
     }
-    
-    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
-                                                    final String defaultShardingColumn) {
-        return null == shardingStrategyConfig ? new NoneShardingStrategy()
-                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
-    }
 }
@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 
 import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingSuffixAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -45,6 +49,9 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     private final StandardShardingAlgorithm<?> shardingAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private volatile PrecomputedTargetNames precomputedTargetNames;
+    
     public StandardShardingStrategy(final String shardingColumn, final StandardShardingAlgorithm<?> shardingAlgorithm) {
         ShardingSpherePreconditions.checkNotNull(shardingColumn, () -> new MissingRequiredShardingConfigurationException("Standard sharding column"));
         ShardingSpherePreconditions.checkNotNull(shardingAlgorithm, () -> new MissingRequiredShardingConfigurationException("Standard sharding algorithm"));
@@ -59,6 +66,15 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<ShardingConditionValue> shardingConditionValues,
                                          final DataNodeInfo dataNodeInfo, final ConfigurationProperties props) {
         ShardingConditionValue shardingConditionValue = shardingConditionValues.iterator().next();
+        if (shardingAlgorithm instanceof ModShardingSuffixAlgorithm && shardingConditionValue instanceof ListShardingConditionValue
+                && 1 == ((ListShardingConditionValue<?>) shardingConditionValue).getValues().size()) {
+            Object value = ((ListShardingConditionValue<?>) shardingConditionValue).getValues().iterator().next();
+            int shardingSuffixIndex = value instanceof Comparable ? ((ModShardingSuffixAlgorithm) shardingAlgorithm).getShardingSuffixIndex((Comparable<?>) value) : -1;
+            if (shardingSuffixIndex >= 0) {
+                String target = getPrecomputedTargetNames(dataNodeInfo)[shardingSuffixIndex];
+                return availableTargetNames.contains(target) ? Collections.singletonList(target) : Collections.emptyList();
+            }
+        }
         Collection<String> shardingResult = shardingConditionValue instanceof ListShardingConditionValue
                 ? doSharding(availableTargetNames, (ListShardingConditionValue) shardingConditionValue, dataNodeInfo)
                 : doSharding(availableTargetNames, (RangeShardingConditionValue) shardingConditionValue, dataNodeInfo);
@@ -84,4 +100,26 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return shardingAlgorithm.doSharding(availableTargetNames,
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValueRange()));
     }
+    
+    private String[] getPrecomputedTargetNames(final DataNodeInfo dataNodeInfo) {
+        PrecomputedTargetNames result = precomputedTargetNames;
+        if (null == result || result.dataNodeInfo != dataNodeInfo) {
+            ModShardingSuffixAlgorithm modShardingSuffixAlgorithm = (ModShardingSuffixAlgorithm) shardingAlgorithm;
+            String[] targetNames = new String[modShardingSuffixAlgorithm.getAutoTablesAmount()];
+            for (int i = 0; i < targetNames.length; i++) {
+                targetNames[i] = ShardingAutoTableAlgorithmUtils.getTargetName(modShardingSuffixAlgorithm.getShardingSuffix(i), dataNodeInfo);
+            }
+            result = new PrecomputedTargetNames(dataNodeInfo, targetNames);
+            precomputedTargetNames = result;
+        }
+        return result.targetNames;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PrecomputedTargetNames {
+        
+        private final DataNodeInfo dataNodeInfo;
+        
+        private final String[] targetNames;
+    }
 }
@@ -21,6 +21,7 @@ import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
@@ -53,6 +54,10 @@ import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorith
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingColocatedJoinRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
@@ -66,6 +71,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
 
 import javax.sql.DataSource;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -75,6 +81,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -114,6 +121,12 @@ public final class ShardingRule implements DatabaseRule {
     
     private final ShardingRuleChecker shardingRuleChecker = new ShardingRuleChecker(this);
     
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingStrategy> databaseShardingStrategies = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingStrategy> tableShardingStrategies = new ConcurrentHashMap<>();
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final ComputeNodeInstanceContext computeNodeInstanceContext,
                         final Collection<ShardingSphereRule> builtRules) {
         configuration = ruleConfig;
@@ -141,7 +154,7 @@ public final class ShardingRule implements DatabaseRule {
         Map<String, DataSource> aggregatedDataSources = new RuleMetaData(builtRules).findAttribute(AggregatedDataSourceRuleAttribute.class)
                 .map(AggregatedDataSourceRuleAttribute::getAggregatedDataSources).orElseGet(() -> PhysicalDataSourceAggregator.getAggregatedDataSources(dataSources, builtRules));
         attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
-                new AggregatedDataSourceRuleAttribute(aggregatedDataSources));
+                new AggregatedDataSourceRuleAttribute(aggregatedDataSources), new ShardingColocatedJoinRuleAttribute(this));
         shardingRuleChecker.check(ruleConfig);
     }
     
@@ -266,6 +279,33 @@ public final class ShardingRule implements DatabaseRule {
         return null == shardingTable.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : shardingTable.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     *
+     * @param shardingTable sharding table
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final ShardingTable shardingTable) {
+        ShardingStrategy result = databaseShardingStrategies.get(shardingTable);
+        return null == result ? databaseShardingStrategies.computeIfAbsent(shardingTable, key -> createShardingStrategy(getDatabaseShardingStrategyConfiguration(key))) : result;
+    }
+    
+    /**
+     * Get table sharding strategy.
+     *
+     * @param shardingTable sharding table
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final ShardingTable shardingTable) {
+        ShardingStrategy result = tableShardingStrategies.get(shardingTable);
+        return null == result ? tableShardingStrategies.computeIfAbsent(shardingTable, key -> createShardingStrategy(getTableShardingStrategyConfiguration(key))) : result;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
     /**
      * Get audit strategy configuration.
      *
@@ -351,6 +391,38 @@ public final class ShardingRule implements DatabaseRule {
         return isJoinConditionContainsShardingColumns(logicTableNames, select.getWhereSegments());
     }
     
+    /**
+     * Judge whether binding tables are joined with equal conditions on sharding columns.
+     *
+     * @param leftTable left logic table name
+     * @param leftColumns left join column names
+     * @param rightTable right logic table name
+     * @param rightColumns right join column names, each one is equal to the left join column at the same index
+     * @return whether binding tables are joined with equal conditions on sharding columns
+     */
+    public boolean isBindingTablesJoinedOnShardingColumns(final String leftTable, final List<String> leftColumns, final String rightTable, final List<String> rightColumns) {
+        if (!isAllConfigBindingTables(Arrays.asList(leftTable, rightTable))) {
+            return false;
+        }
+        ShardingTable leftShardingTable = getShardingTable(leftTable);
+        ShardingTable rightShardingTable = getShardingTable(rightTable);
+        return isJoinedOnShardingColumns(getDatabaseShardingStrategyConfiguration(leftShardingTable), leftColumns, getDatabaseShardingStrategyConfiguration(rightShardingTable), rightColumns)
+                && isJoinedOnShardingColumns(getTableShardingStrategyConfiguration(leftShardingTable), leftColumns, getTableShardingStrategyConfiguration(rightShardingTable), rightColumns);
+    }
+    
+    private boolean isJoinedOnShardingColumns(final ShardingStrategyConfiguration leftConfig, final List<String> leftColumns,
+                                              final ShardingStrategyConfiguration rightConfig, final List<String> rightColumns) {
+        if (!(leftConfig instanceof StandardShardingStrategyConfiguration)) {
+            return true;
+        }
+        for (int i = 0; i < leftColumns.size(); i++) {
+            if (findShardingColumn(leftConfig, leftColumns.get(i)).isPresent() && findShardingColumn(rightConfig, rightColumns.get(i)).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
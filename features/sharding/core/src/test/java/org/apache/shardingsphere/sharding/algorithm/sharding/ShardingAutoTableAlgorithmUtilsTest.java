@@ -55,4 +55,9 @@ class ShardingAutoTableAlgorithmUtilsTest {
         Optional<String> output = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, "3", dataNodeInfo);
         assertFalse(output.isPresent());
     }
+    
+    @Test
+    void assertGetTargetName() {
+        assertThat(ShardingAutoTableAlgorithmUtils.getTargetName("3", dataNodeInfo), is("t_order_03"));
+    }
 }
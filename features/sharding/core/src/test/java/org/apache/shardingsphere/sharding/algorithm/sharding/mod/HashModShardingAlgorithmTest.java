@@ -62,6 +62,17 @@ class HashModShardingAlgorithmTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertGetShardingSuffixIndex() {
+        assertThat(shardingAlgorithm.getShardingSuffixIndex("a"), is(1));
+        assertThat(shardingAlgorithm.getShardingSuffixIndex(null), is(-1));
+    }
+    
+    @Test
+    void assertGetShardingSuffix() {
+        assertThat(shardingAlgorithm.getShardingSuffix(1), is("1"));
+    }
+    
     @Test
     void assertRangeDoShardingWithWrongArgumentForShardingCount() {
         Properties props = PropertiesBuilder.build(new Property("sharding-count", "0"));
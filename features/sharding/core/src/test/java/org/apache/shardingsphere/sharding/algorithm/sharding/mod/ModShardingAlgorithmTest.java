@@ -124,6 +124,27 @@ class ModShardingAlgorithmTest {
         assertThat(actual.size(), is(16));
     }
     
+    @Test
+    void assertGetShardingSuffixIndex() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        assertThat(algorithm.getShardingSuffixIndex(17), is(1));
+        assertThat(algorithm.getShardingSuffixIndex(-1L), is(15));
+        assertThat(algorithm.getShardingSuffixIndex("17"), is(-1));
+    }
+    
+    @Test
+    void assertGetShardingSuffixIndexWithOffset() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", createZeroPaddingProperties());
+        assertThat(algorithm.getShardingSuffixIndex(117), is(-1));
+    }
+    
+    @Test
+    void assertGetShardingSuffixWithZeroPadding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(
+                new Property("sharding-count", "16"), new Property("zero-padding", Boolean.TRUE.toString())));
+        assertThat(algorithm.getShardingSuffix(1), is("01"));
+    }
+    
     private Properties createZeroPaddingProperties() {
         return PropertiesBuilder.build(
                 new Property("sharding-count", "16"), new Property("zero-padding", Boolean.TRUE.toString()), new Property("start-offset", "1"), new Property("stop-offset", "1"));
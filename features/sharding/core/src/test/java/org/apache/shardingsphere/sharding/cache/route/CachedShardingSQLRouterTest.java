@@ -34,6 +34,8 @@ import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCh
 import org.apache.shardingsphere.sharding.cache.route.CachedShardingSQLRouter.OriginSQLRouter;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheType;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -115,6 +117,7 @@ class CachedShardingSQLRouterTest {
         when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.singletonList(1)));
         when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        when(shardingCache.getRouteCache().getStatistics()).thenReturn(new ShardingRouteCacheStatistics());
         RouteContext expected = new RouteContext();
         expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t"))));
         expected.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t")));
@@ -125,6 +128,7 @@ class CachedShardingSQLRouterTest {
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+        assertThat(shardingCache.getRouteCache().getStatistics().getMissCount(ShardingRouteCacheType.ROUTE_CONTEXT), is(1L));
     }
     
     @Test
@@ -135,6 +139,7 @@ class CachedShardingSQLRouterTest {
         when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.singletonList(1)));
         when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        when(shardingCache.getRouteCache().getStatistics()).thenReturn(new ShardingRouteCacheStatistics());
         RouteContext expected = new RouteContext();
         expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t"))));
         expected.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t")));
@@ -145,6 +150,7 @@ class CachedShardingSQLRouterTest {
         assertThat(actualRouteContext, not(expected));
         assertThat(actualRouteContext.getOriginalDataNodes(), is(expected.getOriginalDataNodes()));
         assertThat(actualRouteContext.getRouteUnits(), is(expected.getRouteUnits()));
+        assertThat(shardingCache.getRouteCache().getStatistics().getHitCount(ShardingRouteCacheType.ROUTE_CONTEXT), is(1L));
     }
     
     @Test
@@ -155,6 +161,7 @@ class CachedShardingSQLRouterTest {
         when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.emptyList()));
         when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        when(shardingCache.getRouteCache().getStatistics()).thenReturn(new ShardingRouteCacheStatistics());
         RouteContext expected = new RouteContext();
         expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t", "t_0"), new RouteMapper("t", "t_1"))));
         expected.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_0")));
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ShardingRouteCacheStatisticsTest {
+    
+    @Test
+    void assertRecordHitWithoutMiss() {
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        assertThat(statistics.recordHit(ShardingRouteCacheType.DATA_NODE), is(0L));
+        assertThat(statistics.getHitRate(ShardingRouteCacheType.DATA_NODE), is(1D));
+        assertThat(statistics.getEstimatedSavedNanos(ShardingRouteCacheType.DATA_NODE), is(0L));
+    }
+    
+    @Test
+    void assertRecordHitAndMiss() {
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        statistics.recordMiss(ShardingRouteCacheType.ROUTE_CONTEXT, 100L);
+        statistics.recordMiss(ShardingRouteCacheType.ROUTE_CONTEXT, 300L);
+        assertThat(statistics.recordHit(ShardingRouteCacheType.ROUTE_CONTEXT), is(200L));
+        assertThat(statistics.recordHit(ShardingRouteCacheType.ROUTE_CONTEXT), is(200L));
+        assertThat(statistics.getHitCount(ShardingRouteCacheType.ROUTE_CONTEXT), is(2L));
+        assertThat(statistics.getMissCount(ShardingRouteCacheType.ROUTE_CONTEXT), is(2L));
+        assertThat(statistics.getHitRate(ShardingRouteCacheType.ROUTE_CONTEXT), is(0.5D));
+        assertThat(statistics.getEstimatedSavedNanos(ShardingRouteCacheType.ROUTE_CONTEXT), is(400L));
+        assertThat(statistics.getHitRate(ShardingRouteCacheType.DATA_NODE), is(0D));
+    }
+}
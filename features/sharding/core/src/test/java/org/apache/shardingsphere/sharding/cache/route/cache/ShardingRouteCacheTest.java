@@ -17,12 +17,18 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +42,26 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertPutAndGetDataNode() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        ShardingDataNodeCacheKey key = new ShardingDataNodeCacheKey("t_order", "order_id", false, true, 1);
+        assertFalse(cache.getDataNode(key).isPresent());
+        DataNode dataNode = new DataNode("ds_0", "t_order_1");
+        cache.putDataNode(key, dataNode);
+        Optional<DataNode> actual = cache.getDataNode(key);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(dataNode));
+        assertThat(actual.get(), not(sameInstance(dataNode)));
+    }
+    
+    @Test
+    void assertGetDataNodeWithDifferentShardingColumnsOfSameValue() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        cache.putDataNode(new ShardingDataNodeCacheKey("t_order", "order_id", false, true, 5), new DataNode("ds_1", "t_order_1"));
+        assertFalse(cache.getDataNode(new ShardingDataNodeCacheKey("t_order", "user_id", false, true, 5)).isPresent());
+        assertFalse(cache.getDataNode(new ShardingDataNodeCacheKey("t_order", "order_id", true, true, 5)).isPresent());
+        assertTrue(cache.getDataNode(new ShardingDataNodeCacheKey("t_order", "order_id", false, true, 5)).isPresent());
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertGetAndPut() {
+        GroupByHashTable<String> hashTable = new GroupByHashTable<>();
+        Object[] groupValues = {"foo", 1, null};
+        int hash = GroupByHashTable.hash(groupValues);
+        assertNull(hashTable.get(groupValues, hash));
+        hashTable.put(groupValues.clone(), hash, "foo_value");
+        Object[] probeValues = {"foo", 1, null};
+        assertThat(hashTable.get(probeValues, GroupByHashTable.hash(probeValues)), is("foo_value"));
+        Object[] otherValues = {"foo", 2, null};
+        assertNull(hashTable.get(otherValues, GroupByHashTable.hash(otherValues)));
+    }
+    
+    @Test
+    void assertPutWithResize() {
+        GroupByHashTable<Integer> hashTable = new GroupByHashTable<>();
+        for (int i = 0; i < 10000; i++) {
+            Object[] groupValues = {i % 100, "group_" + i};
+            hashTable.put(groupValues, GroupByHashTable.hash(groupValues), i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            Object[] groupValues = {i % 100, "group_" + i};
+            assertThat(hashTable.get(groupValues, GroupByHashTable.hash(groupValues)), is(i));
+        }
+        assertThat(hashTable.values().size(), is(10000));
+        assertThat(hashTable.values().subList(0, 3), is(Arrays.asList(0, 1, 2)));
+    }
+}
@@ -31,6 +31,9 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
@@ -50,6 +53,7 @@ import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -205,6 +209,36 @@ public final class ShardingRouteEngineFixtureBuilder {
         return new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
     }
     
+    /**
+     * Create sharding rule with sharding cache and mod sharding algorithms.
+     *
+     * @return created sharding rule
+     */
+    public static ShardingRule createCachedModShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingAutoTableRuleConfiguration autoTableRuleConfig = new ShardingAutoTableRuleConfiguration("t_order", "ds_0,ds_1");
+        autoTableRuleConfig.setShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_mod"));
+        shardingRuleConfig.getAutoTables().add(autoTableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("t_order_mod", new AlgorithmConfiguration("MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        shardingRuleConfig.setShardingCache(new ShardingCacheConfiguration(512, new ShardingCacheOptionsConfiguration(false, 16, 64)));
+        return new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+    }
+    
+    /**
+     * Create sharding rule with sharding cache and different database and table sharding columns.
+     *
+     * @return created sharding rule
+     */
+    public static ShardingRule createCachedShardingRuleWithDifferentShardingColumns() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createInlineTableRuleConfiguration("t_order", "ds_0.t_order_1,ds_1.t_order_0", "t_order_${order_id % 2}", "ds_${user_id % 2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("ds_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        shardingRuleConfig.getShardingAlgorithms().put("t_order_inline",
+                new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        shardingRuleConfig.setShardingCache(new ShardingCacheConfiguration(512, new ShardingCacheOptionsConfiguration(false, 16, 64)));
+        return new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+    }
+    
     private static ShardingTableRuleConfiguration createInlineTableRuleConfiguration(final String tableName,
                                                                                      final String actualDataNodes, final String algorithmExpression, final String dsAlgorithmExpression) {
         return createTableRuleConfiguration(tableName, actualDataNodes,
@@ -250,6 +284,31 @@ public final class ShardingRouteEngineFixtureBuilder {
         return new ShardingConditions(result, mock(SQLStatementContext.class), mock(ShardingRule.class));
     }
     
+    /**
+     * Create sharding conditions of in list.
+     *
+     * @param tableName table name
+     * @param values values of in list
+     * @return created sharding conditions
+     */
+    public static ShardingConditions createInListShardingConditions(final String tableName, final Long... values) {
+        return createInListShardingConditions(tableName, "order_id", values);
+    }
+    
+    /**
+     * Create sharding conditions of in list on sharding column.
+     *
+     * @param tableName table name
+     * @param columnName sharding column name
+     * @param values values of in list
+     * @return created sharding conditions
+     */
+    public static ShardingConditions createInListShardingConditions(final String tableName, final String columnName, final Long... values) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>(columnName, tableName, Arrays.asList(values)));
+        return new ShardingConditions(new LinkedList<>(Collections.singleton(shardingCondition)), mock(SQLStatementContext.class), mock(ShardingRule.class));
+    }
+    
     /**
      * Create error sharding conditions.
      *
@@ -23,10 +23,19 @@ import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheType;
 import org.apache.shardingsphere.sharding.exception.algorithm.ShardingRouteAlgorithmException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRouteEngineFixtureBuilder;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -40,7 +49,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 class ShardingStandardRouteEngineTest {
@@ -88,6 +99,50 @@ class ShardingStandardRouteEngineTest {
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    void assertRouteByCachedDataNodes() {
+        ShardingRule shardingRule = ShardingRouteEngineFixtureBuilder.createCachedModShardingRule();
+        ShardingRouteCacheStatistics statistics = shardingRule.getShardingCache().getRouteCache().getStatistics();
+        final RouteContext missedRouteContext = createShardingStandardRouteEngine("t_order",
+                ShardingRouteEngineFixtureBuilder.createInListShardingConditions("t_order", 1L, 2L, 3L), mock(SQLStatementContext.class), new HintValueContext()).route(shardingRule);
+        assertThat(statistics.getMissCount(ShardingRouteCacheType.DATA_NODE), is(3L));
+        assertThat(statistics.getHitCount(ShardingRouteCacheType.DATA_NODE), is(0L));
+        RouteContext hitRouteContext = createShardingStandardRouteEngine("t_order",
+                ShardingRouteEngineFixtureBuilder.createInListShardingConditions("t_order", 1L, 2L, 3L), mock(SQLStatementContext.class), new HintValueContext()).route(shardingRule);
+        assertThat(statistics.getMissCount(ShardingRouteCacheType.DATA_NODE), is(3L));
+        assertThat(statistics.getHitCount(ShardingRouteCacheType.DATA_NODE), is(3L));
+        assertThat(hitRouteContext.getRouteUnits(), is(missedRouteContext.getRouteUnits()));
+        assertThat(hitRouteContext.getOriginalDataNodes(), is(missedRouteContext.getOriginalDataNodes()));
+        List<RouteUnit> routeUnits = new ArrayList<>(hitRouteContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(3));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_2"));
+        assertThat(routeUnits.get(2).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(2).getTableMappers().iterator().next().getActualName(), is("t_order_3"));
+    }
+    
+    @Test
+    void assertRouteByCachedDataNodesWithDifferentShardingColumnsOfSameValue() {
+        ShardingRule shardingRule = spy(ShardingRouteEngineFixtureBuilder.createCachedShardingRuleWithDifferentShardingColumns());
+        ShardingTable shardingTable = shardingRule.getShardingTable("t_order");
+        doReturn(createModShardingStrategy("user_id")).when(shardingRule).getDatabaseShardingStrategy(shardingTable);
+        doReturn(createModShardingStrategy("order_id")).when(shardingRule).getTableShardingStrategy(shardingTable);
+        RouteContext databaseRouteContext = createShardingStandardRouteEngine("t_order",
+                ShardingRouteEngineFixtureBuilder.createInListShardingConditions("t_order", "user_id", 4L), mock(SQLStatementContext.class), new HintValueContext()).route(shardingRule);
+        assertThat(databaseRouteContext.getRouteUnits().size(), is(1));
+        RouteUnit databaseRouteUnit = databaseRouteContext.getRouteUnits().iterator().next();
+        assertThat(databaseRouteUnit.getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(databaseRouteUnit.getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        RouteContext tableRouteContext = createShardingStandardRouteEngine("t_order",
+                ShardingRouteEngineFixtureBuilder.createInListShardingConditions("t_order", "order_id", 4L), mock(SQLStatementContext.class), new HintValueContext()).route(shardingRule);
+        assertThat(tableRouteContext.getRouteUnits().size(), is(1));
+        RouteUnit tableRouteUnit = tableRouteContext.getRouteUnits().iterator().next();
+        assertThat(tableRouteUnit.getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(tableRouteUnit.getTableMappers().iterator().next().getActualName(), is("t_order_0"));
+    }
+    
     // TODO remove @Disabled when autoTables support config actualDataNodes in #33364
     @Disabled("FIXME")
     @Test
@@ -210,4 +265,9 @@ class ShardingStandardRouteEngineTest {
                                                                           final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
         return new ShardingStandardRouteEngine(logicTableName, shardingConditions, sqlStatementContext, hintValueContext, new ConfigurationProperties(new Properties()));
     }
+    
+    private StandardShardingStrategy createModShardingStrategy(final String shardingColumn) {
+        return new StandardShardingStrategy(shardingColumn,
+                (StandardShardingAlgorithm<?>) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "2"))));
+    }
 }
@@ -20,9 +20,14 @@ package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.fixture.CoreStandardShardingAlgorithmFixture;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +39,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StandardShardingStrategyTest {
     
@@ -65,6 +71,32 @@ class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    void assertDoShardingForSingleListShardingWithModShardingSuffixAlgorithm() {
+        StandardShardingStrategy shardingStrategy = new StandardShardingStrategy("column",
+                (StandardShardingAlgorithm<?>) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        Collection<String> availableTargetNames = Arrays.asList("logicTable_0", "logicTable_1", "logicTable_2");
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Collections.singletonList(5))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+        assertThat(actual, is(Collections.singletonList("logicTable_1")));
+        assertTrue(shardingStrategy.doSharding(availableTargetNames, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Collections.singletonList(7))), dataNodeSegment, new ConfigurationProperties(new Properties())).isEmpty());
+    }
+    
+    @Test
+    void assertDoShardingForSingleListShardingWithNotComparableValue() {
+        StandardShardingStrategy shardingStrategy = new StandardShardingStrategy("column",
+                (StandardShardingAlgorithm<?>) TypedSPILoader.getService(ShardingAlgorithm.class, "HASH_MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        Collection<String> availableTargetNames = Arrays.asList("logicTable_0", "logicTable_1", "logicTable_2", "logicTable_3");
+        assertThat(shardingStrategy.doSharding(availableTargetNames, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Collections.singletonList(5))), dataNodeSegment, new ConfigurationProperties(new Properties())).size(), is(1));
+        byte[] value = new byte[]{1, 2, 3};
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Collections.singletonList(value))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is("logicTable_" + Math.abs((long) value.hashCode()) % 4L));
+    }
+    
     @Test
     void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
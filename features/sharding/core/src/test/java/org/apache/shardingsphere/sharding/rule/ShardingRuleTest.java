@@ -50,6 +50,8 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateShardingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.TableSourceType;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
@@ -77,6 +79,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -710,6 +713,21 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().isBindingTablesUseShardingColumnsJoin(sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
     }
     
+    @Test
+    void assertIsBindingTablesJoinedOnShardingColumns() {
+        assertTrue(createMaximumShardingRule().isBindingTablesJoinedOnShardingColumns("logic_Table", Arrays.asList("user_id", "order_id"), "sub_Logic_Table", Arrays.asList("user_id", "order_id")));
+    }
+    
+    @Test
+    void assertIsBindingTablesNotJoinedOnTableShardingColumns() {
+        assertFalse(createMaximumShardingRule().isBindingTablesJoinedOnShardingColumns("logic_Table", Collections.singletonList("user_id"), "sub_Logic_Table", Collections.singletonList("user_id")));
+    }
+    
+    @Test
+    void assertIsNotBindingTablesJoinedOnShardingColumns() {
+        assertFalse(createMaximumShardingRule().isBindingTablesJoinedOnShardingColumns("logic_Table", Arrays.asList("user_id", "order_id"), "new_Table", Arrays.asList("user_id", "order_id")));
+    }
+    
     @Test
     void assertIsAllTablesInSameDataSource() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
@@ -776,6 +794,24 @@ class ShardingRuleTest {
         assertThat(tableShardingStrategyConfig.getShardingAlgorithmName(), is("table_inline"));
     }
     
+    @Test
+    void assertGetDatabaseShardingStrategy() {
+        ShardingRule actual = createMaximumShardingRule();
+        ShardingTable shardingTable = actual.getShardingTable("Logic_Table");
+        ShardingStrategy databaseShardingStrategy = actual.getDatabaseShardingStrategy(shardingTable);
+        assertThat(databaseShardingStrategy, isA(NoneShardingStrategy.class));
+        assertThat(databaseShardingStrategy, sameInstance(actual.getDatabaseShardingStrategy(shardingTable)));
+    }
+    
+    @Test
+    void assertGetTableShardingStrategy() {
+        ShardingRule actual = createMaximumShardingRule();
+        ShardingTable shardingTable = actual.getShardingTable("Logic_Table");
+        ShardingStrategy tableShardingStrategy = actual.getTableShardingStrategy(shardingTable);
+        assertThat(tableShardingStrategy, isA(NoneShardingStrategy.class));
+        assertThat(tableShardingStrategy, sameInstance(actual.getTableShardingStrategy(shardingTable)));
+    }
+    
     @Test
     void assertIsGenerateKeyColumn() {
         ShardingRule actual = createMaximumShardingRule();
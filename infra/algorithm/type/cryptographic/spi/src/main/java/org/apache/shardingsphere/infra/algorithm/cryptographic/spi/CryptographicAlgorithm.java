@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.algorithm.cryptographic.spi;
 
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Cryptographic algorithm.
  */
@@ -39,4 +42,32 @@ public interface CryptographicAlgorithm extends ShardingSphereAlgorithm {
      * @return plain value
      */
     Object decrypt(Object cipherValue);
+    
+    /**
+     * Encrypt batch.
+     *
+     * @param plainValues plain values
+     * @return cipher values in the same order as plain values
+     */
+    default List<Object> encryptBatch(final List<Object> plainValues) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values in the same order as cipher values
+     */
+    default List<Object> decryptBatch(final List<Object> cipherValues) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
@@ -27,19 +27,30 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES cryptographic algorithm.
+ *
+ * <p>Batch operations look up the cipher of current thread once and reuse it for every value of the batch.</p>
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private SecretKeySpec secretKeySpec;
+    
+    private ThreadLocal<Cipher> encryptCiphers;
+    
+    private ThreadLocal<Cipher> decryptCiphers;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        secretKeySpec = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCiphers = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCiphers = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     @HighFrequencyInvocation
@@ -49,8 +60,24 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return encode(result);
+        return doEncrypt(encryptCiphers, encryptCiphers.get(), plainValue);
+    }
+    
+    @HighFrequencyInvocation
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> encryptBatch(final List<Object> plainValues) {
+        Cipher cipher = encryptCiphers.get();
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : doEncrypt(encryptCiphers, cipher, each));
+        }
+        return result;
+    }
+    
+    @HighFrequencyInvocation
+    private String doEncrypt(final ThreadLocal<Cipher> ciphers, final Cipher cipher, final Object plainValue) throws GeneralSecurityException {
+        return encode(doFinal(ciphers, cipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
     @HighFrequencyInvocation
@@ -65,8 +92,24 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        return doDecrypt(decryptCiphers, decryptCiphers.get(), cipherValue);
+    }
+    
+    @HighFrequencyInvocation
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> decryptBatch(final List<Object> cipherValues) {
+        Cipher cipher = decryptCiphers.get();
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : doDecrypt(decryptCiphers, cipher, each));
+        }
+        return result;
+    }
+    
+    @HighFrequencyInvocation
+    private String doDecrypt(final ThreadLocal<Cipher> ciphers, final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        return new String(doFinal(ciphers, cipher, decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
     }
     
     @HighFrequencyInvocation
@@ -75,9 +118,19 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     }
     
     @HighFrequencyInvocation
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    private byte[] doFinal(final ThreadLocal<Cipher> ciphers, final Cipher cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            ciphers.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
@@ -25,6 +25,9 @@ import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -75,4 +78,20 @@ class AESCryptographicAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertEncryptBatch() {
+        assertThat(cryptographicAlgorithm.encryptBatch(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    void assertDecryptBatch() {
+        assertThat(cryptographicAlgorithm.decryptBatch(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.asList("test", null)));
+    }
+    
+    @Test
+    void assertDecryptAfterDecryptFailed() {
+        assertThrows(GeneralSecurityException.class, () -> cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKF"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
 }
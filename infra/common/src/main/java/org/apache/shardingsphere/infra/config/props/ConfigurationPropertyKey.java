@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.config.props;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
 import org.apache.shardingsphere.infra.props.TypedPropertyKey;
 
 import java.util.Arrays;
@@ -48,6 +49,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The thread type of worker group to execute SQL, PLATFORM or VIRTUAL.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -63,6 +69,38 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Local directory of table metadata snapshots.
+     * Table metadata of every storage unit is loaded from its snapshot on startup and validated against column definitions of the database in background,
+     * the default value is empty, which means snapshots are disabled.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class, true),
+    
+    /**
+     * Max tables of every schema kept in memory when table metadata is loaded lazily.
+     * Tables are loaded on first reference and evicted beyond it, the default value is 0, which means all tables are loaded on startup.
+     * It is ignored if schemas are persisted to repository.
+     */
+    LAZY_TABLE_METADATA_CACHE_SIZE("lazy-table-metadata-cache-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Memory budget in bytes of every SQL federation query.
+     * Joins and sorts spill rows to local temporary files once it is exhausted, the default value is 0, which means rows are always kept in memory.
+     */
+    SQL_FEDERATION_MEMORY_BUDGET_BYTES("sql-federation-memory-budget-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Rows prefetched for every shard when SQL federation scans shards in parallel.
+     * Each shard result is drained by a worker thread into a bounded buffer, the default value is 0, which means shards are scanned on the calling thread.
+     */
+    SQL_FEDERATION_SCAN_PREFETCH_ROWS("sql-federation-scan-prefetch-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max rows of a JDBC batch of single-row inserts coalesced into one multi-row insert for every shard.
+     * Rows are further limited by the max parameter count of the storage database, the default value is 0, which means batches are not coalesced.
+     */
+    BATCH_INSERT_COALESCE_ROWS("batch-insert-coalesce-rows", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -73,6 +111,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold in bytes of query data for ShardingSphere-Proxy.
+     * Rows are encoded into pooled buffers and flushed by size instead of records count if it is greater than 0.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -84,6 +128,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The thread type to execute commands of proxy frontend connections, PLATFORM or VIRTUAL.
+     */
+    PROXY_FRONTEND_EXECUTOR_TYPE("proxy-frontend-executor-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
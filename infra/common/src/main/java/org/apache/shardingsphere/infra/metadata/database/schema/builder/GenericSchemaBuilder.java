@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoader;
@@ -25,13 +26,18 @@ import org.apache.shardingsphere.database.connector.core.metadata.data.model.Sch
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot.MetaDataSnapshotLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.reviser.MetaDataReviseEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtils;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -70,7 +76,75 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final Collection<String> tableNames, final DatabaseType protocolType, final GenericSchemaBuilderMaterial material) throws SQLException {
-        Map<String, SchemaMetaData> result = loadSchemas(tableNames, material);
+        return buildSchemas(loadSchemas(tableNames, material), protocolType, material);
+    }
+    
+    /**
+     * Build generic schema with meta data snapshots.
+     *
+     * <p>Table meta data is loaded from local snapshots if {@code metadata-snapshot-path} is configured, which are validated against storage units in background,
+     * so it is only used to create databases. Refreshing table meta data always loads from storage units.</p>
+     *
+     * @param protocolType database type
+     * @param material generic schema builder material
+     * @param snapshotChangedCallback callback to replace built schemas if snapshots are changed since they were taken
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> buildWithSnapshot(final DatabaseType protocolType, final GenericSchemaBuilderMaterial material,
+                                                                      final Runnable snapshotChangedCallback) throws SQLException {
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH);
+        if (Strings.isNullOrEmpty(snapshotPath)) {
+            return build(protocolType, material);
+        }
+        Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(getAllTableNames(material.getRules()), material);
+        Map<String, SchemaMetaData> schemaMetaDataMap = materials.isEmpty()
+                ? Collections.emptyMap()
+                : new MetaDataSnapshotLoader(Paths.get(snapshotPath), material.getStorageUnits(), snapshotChangedCallback).load(materials);
+        return buildSchemas(schemaMetaDataMap, protocolType, material);
+    }
+    
+    /**
+     * Build generic schema with lazily loaded tables.
+     *
+     * <p>Tables are loaded from storage units on first reference, and at most max cached tables are kept in memory for every schema.
+     * Iterating all tables loads the uncached tables in one batch.
+     * Only database types without schema are supported, otherwise all tables are loaded the same as {@link #buildWithSnapshot(DatabaseType, GenericSchemaBuilderMaterial, Runnable)}.</p>
+     *
+     * @param protocolType database type
+     * @param material generic schema builder material
+     * @param maxCachedTables max cached tables
+     * @param snapshotChangedCallback callback to replace built schemas if snapshots are changed since they were taken
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> buildLazily(final DatabaseType protocolType, final GenericSchemaBuilderMaterial material, final int maxCachedTables,
+                                                                final Runnable snapshotChangedCallback) throws SQLException {
+        if (!isLazyLoadingSupported(protocolType, material.getStorageUnits())) {
+            return buildWithSnapshot(protocolType, material, snapshotChangedCallback);
+        }
+        String schemaName = new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(material.getDefaultSchemaName());
+        return Collections.singletonMap(schemaName,
+                new ShardingSphereSchema(schemaName, getAllTableNames(material.getRules()), each -> loadTables(each, schemaName, protocolType, material), maxCachedTables));
+    }
+    
+    private static boolean isLazyLoadingSupported(final DatabaseType protocolType, final Map<String, StorageUnit> storageUnits) {
+        return !new DatabaseTypeRegistry(protocolType).getDialectDatabaseMetaData().getSchemaOption().isSchemaAvailable()
+                && storageUnits.values().stream().noneMatch(each -> new DatabaseTypeRegistry(each.getStorageType()).getDialectDatabaseMetaData().getSchemaOption().isSchemaAvailable());
+    }
+    
+    private static Collection<ShardingSphereTable> loadTables(final Collection<String> tableNames, final String schemaName, final DatabaseType protocolType,
+                                                              final GenericSchemaBuilderMaterial material) {
+        try {
+            ShardingSphereSchema schema = build(tableNames, protocolType, material).get(schemaName);
+            return null == schema ? Collections.emptyList() : schema.getAllTables();
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private static Map<String, ShardingSphereSchema> buildSchemas(final Map<String, SchemaMetaData> schemaMetaDataMap, final DatabaseType protocolType, final GenericSchemaBuilderMaterial material) {
+        Map<String, SchemaMetaData> result = schemaMetaDataMap;
         if (!isSameProtocolAndStorageTypes(protocolType, material.getStorageUnits())) {
             result = translate(result, protocolType, material);
         }
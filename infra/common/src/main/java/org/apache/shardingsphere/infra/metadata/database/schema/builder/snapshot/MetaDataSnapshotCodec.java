@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.TableType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Meta data snapshot codec.
+ *
+ * <p>A snapshot starts with magic number, format version, schema version and meta data version, then follows the schemas, and ends with CRC32 checksum of all previous bytes.
+ * Counts and string lengths are encoded as variable length integers, and the boolean attributes of a column are packed into one byte.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataSnapshotCodec {
+    
+    private static final int MAGIC = 0x53534D44;
+    
+    private static final byte FORMAT_VERSION = 2;
+    
+    private static final int CHECKSUM_LENGTH = 4;
+    
+    private static final int PRIMARY_KEY = 1;
+    
+    private static final int GENERATED = 1 << 1;
+    
+    private static final int CASE_SENSITIVE = 1 << 2;
+    
+    private static final int VISIBLE = 1 << 3;
+    
+    private static final int UNSIGNED = 1 << 4;
+    
+    private static final int NULLABLE = 1 << 5;
+    
+    /**
+     * Encode schemas to snapshot.
+     *
+     * @param schemaVersion schema version
+     * @param metaDataVersion meta data version
+     * @param schemas schemas to be encoded
+     * @return encoded snapshot
+     */
+    public static byte[] encode(final byte[] schemaVersion, final byte[] metaDataVersion, final Collection<SchemaMetaData> schemas) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        writeInt(out, MAGIC);
+        out.write(FORMAT_VERSION);
+        writeBytes(out, schemaVersion);
+        writeBytes(out, metaDataVersion);
+        writeVarInt(out, schemas.size());
+        for (SchemaMetaData each : schemas) {
+            writeString(out, each.getName());
+            writeVarInt(out, each.getTables().size());
+            for (TableMetaData table : each.getTables()) {
+                writeTable(out, table);
+            }
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(out.toByteArray());
+        writeInt(out, (int) checksum.getValue());
+        return out.toByteArray();
+    }
+    
+    private static void writeTable(final ByteArrayOutputStream out, final TableMetaData table) {
+        writeString(out, table.getName());
+        writeString(out, table.getType().name());
+        writeVarInt(out, table.getColumns().size());
+        for (ColumnMetaData each : table.getColumns()) {
+            writeString(out, each.getName());
+            writeInt(out, each.getDataType());
+            out.write(getFlags(each));
+        }
+        writeVarInt(out, table.getIndexes().size());
+        for (IndexMetaData each : table.getIndexes()) {
+            writeString(out, each.getName());
+            out.write(each.isUnique() ? 1 : 0);
+            writeVarInt(out, each.getColumns().size());
+            for (String column : each.getColumns()) {
+                writeString(out, column);
+            }
+        }
+        writeVarInt(out, table.getConstraints().size());
+        for (ConstraintMetaData each : table.getConstraints()) {
+            writeString(out, each.getName());
+            writeString(out, each.getReferencedTableName());
+        }
+    }
+    
+    private static int getFlags(final ColumnMetaData column) {
+        int result = column.isPrimaryKey() ? PRIMARY_KEY : 0;
+        result |= column.isGenerated() ? GENERATED : 0;
+        result |= column.isCaseSensitive() ? CASE_SENSITIVE : 0;
+        result |= column.isVisible() ? VISIBLE : 0;
+        result |= column.isUnsigned() ? UNSIGNED : 0;
+        return result | (column.isNullable() ? NULLABLE : 0);
+    }
+    
+    private static void writeInt(final ByteArrayOutputStream out, final int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+    
+    private static void writeVarInt(final ByteArrayOutputStream out, final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write(remaining & 0x7F | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+    
+    private static void writeBytes(final ByteArrayOutputStream out, final byte[] value) {
+        writeVarInt(out, value.length);
+        out.write(value, 0, value.length);
+    }
+    
+    private static void writeString(final ByteArrayOutputStream out, final String value) {
+        if (null == value) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes, 0, bytes.length);
+    }
+    
+    /**
+     * Decode snapshot.
+     *
+     * @param snapshot snapshot to be decoded
+     * @param schemaVersion expected schema version
+     * @return decoded snapshot, or empty if the snapshot is corrupted, or is encoded by another format or schema version
+     */
+    public static Optional<MetaDataSnapshot> decode(final ByteBuffer snapshot, final byte[] schemaVersion) {
+        int checksumPosition = snapshot.limit() - CHECKSUM_LENGTH;
+        if (checksumPosition < 5) {
+            return Optional.empty();
+        }
+        ByteBuffer content = snapshot.duplicate();
+        content.position(0);
+        content.limit(checksumPosition);
+        CRC32 checksum = new CRC32();
+        checksum.update(content.duplicate());
+        if ((int) checksum.getValue() != snapshot.getInt(checksumPosition) || MAGIC != content.getInt() || FORMAT_VERSION != content.get() || !Arrays.equals(schemaVersion, readBytes(content))) {
+            return Optional.empty();
+        }
+        byte[] metaDataVersion = readBytes(content);
+        int schemaCount = readVarInt(content);
+        Collection<SchemaMetaData> schemas = new ArrayList<>(schemaCount);
+        for (int i = 0; i < schemaCount; i++) {
+            String name = readString(content);
+            int tableCount = readVarInt(content);
+            Collection<TableMetaData> tables = new ArrayList<>(tableCount);
+            for (int j = 0; j < tableCount; j++) {
+                tables.add(readTable(content));
+            }
+            schemas.add(new SchemaMetaData(name, tables));
+        }
+        return Optional.of(new MetaDataSnapshot(metaDataVersion, schemas));
+    }
+    
+    private static TableMetaData readTable(final ByteBuffer in) {
+        String name = readString(in);
+        TableType type = TableType.valueOf(readString(in));
+        return new TableMetaData(name, readColumns(in), readIndexes(in), readConstraints(in), type);
+    }
+    
+    private static Collection<ColumnMetaData> readColumns(final ByteBuffer in) {
+        int columnCount = readVarInt(in);
+        Collection<ColumnMetaData> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readString(in);
+            int dataType = in.getInt();
+            int flags = in.get();
+            result.add(new ColumnMetaData(name, dataType, 0 != (flags & PRIMARY_KEY), 0 != (flags & GENERATED), 0 != (flags & CASE_SENSITIVE),
+                    0 != (flags & VISIBLE), 0 != (flags & UNSIGNED), 0 != (flags & NULLABLE)));
+        }
+        return result;
+    }
+    
+    private static Collection<IndexMetaData> readIndexes(final ByteBuffer in) {
+        int indexCount = readVarInt(in);
+        Collection<IndexMetaData> result = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            String name = readString(in);
+            boolean unique = 0 != in.get();
+            int columnCount = readVarInt(in);
+            Collection<String> columns = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                columns.add(readString(in));
+            }
+            IndexMetaData index = new IndexMetaData(name, columns);
+            index.setUnique(unique);
+            result.add(index);
+        }
+        return result;
+    }
+    
+    private static Collection<ConstraintMetaData> readConstraints(final ByteBuffer in) {
+        int constraintCount = readVarInt(in);
+        Collection<ConstraintMetaData> result = new ArrayList<>(constraintCount);
+        for (int i = 0; i < constraintCount; i++) {
+            result.add(new ConstraintMetaData(readString(in), readString(in)));
+        }
+        return result;
+    }
+    
+    private static int readVarInt(final ByteBuffer in) {
+        int result = 0;
+        int shift = 0;
+        byte each;
+        do {
+            each = in.get();
+            result |= (each & 0x7F) << shift;
+            shift += 7;
+        } while (0 != (each & 0x80));
+        return result;
+    }
+    
+    private static byte[] readBytes(final ByteBuffer in) {
+        byte[] result = new byte[readVarInt(in)];
+        in.get(result);
+        return result;
+    }
+    
+    private static String readString(final ByteBuffer in) {
+        int length = readVarInt(in);
+        if (0 == length) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
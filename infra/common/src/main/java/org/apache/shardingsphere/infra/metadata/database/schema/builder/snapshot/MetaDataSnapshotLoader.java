@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.datatype.DataTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Meta data snapshot loader.
+ *
+ * <p>Table meta data of every storage unit is kept in a local snapshot file, which is versioned by the storage unit location and its actual table names.
+ * Storage units with a snapshot of current version are loaded from the memory mapped snapshot instead of the database, and then validated in background.
+ * Validation only compares the meta data version of the snapshot, which is digested from the column definitions of actual tables queried in one database meta data call,
+ * and reloads table meta data of the storage units whose meta data version differs. Changed snapshots are rewritten, and the snapshot changed callback is called once
+ * to replace the table meta data loaded from them. Snapshots rewritten by validation are not validated again when they are loaded by that replacement.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Slf4j
+public final class MetaDataSnapshotLoader {
+    
+    private static final ExecutorService VALIDATE_EXECUTOR = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-MetaDataSnapshotValidator-%d").build());
+    
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    
+    private static final Map<Path, byte[]> VALIDATED_META_DATA_VERSIONS = new ConcurrentHashMap<>();
+    
+    private final Path snapshotPath;
+    
+    private final Map<String, StorageUnit> storageUnits;
+    
+    private final Runnable snapshotChangedCallback;
+    
+    private final Executor validateExecutor;
+    
+    public MetaDataSnapshotLoader(final Path snapshotPath, final Map<String, StorageUnit> storageUnits, final Runnable snapshotChangedCallback) {
+        this(snapshotPath, storageUnits, snapshotChangedCallback, VALIDATE_EXECUTOR);
+    }
+    
+    /**
+     * Load meta data.
+     *
+     * @param materials meta data loader materials
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<String, Collection<MetaDataLoaderMaterial>> storageUnitMaterials = groupByStorageUnit(materials);
+        Map<String, Collection<SchemaMetaData>> storageUnitSchemas = new LinkedHashMap<>(storageUnitMaterials.size(), 1F);
+        Collection<MetaDataLoaderMaterial> missedMaterials = new LinkedList<>();
+        Map<String, byte[]> snapshotMetaDataVersions = new LinkedHashMap<>(storageUnitMaterials.size(), 1F);
+        for (Entry<String, Collection<MetaDataLoaderMaterial>> entry : storageUnitMaterials.entrySet()) {
+            Optional<MetaDataSnapshot> snapshot = read(entry.getKey(), getSchemaVersion(entry.getKey(), entry.getValue()));
+            if (snapshot.isPresent()) {
+                MetaDataLoaderMaterial material = entry.getValue().iterator().next();
+                DataTypeRegistry.load(material.getDataSource(), material.getStorageType().getType());
+                storageUnitSchemas.put(entry.getKey(), snapshot.get().getSchemas());
+                if (!isValidated(entry.getKey(), snapshot.get().getMetaDataVersion())) {
+                    snapshotMetaDataVersions.put(entry.getKey(), snapshot.get().getMetaDataVersion());
+                }
+            } else {
+                storageUnitSchemas.put(entry.getKey(), Collections.emptyList());
+                missedMaterials.addAll(entry.getValue());
+            }
+        }
+        if (!missedMaterials.isEmpty()) {
+            Map<String, byte[]> missedMetaDataVersions = loadMetaDataVersions(groupByStorageUnit(missedMaterials));
+            for (Entry<String, Collection<SchemaMetaData>> entry : MetaDataLoader.loadByStorageUnit(missedMaterials).entrySet()) {
+                storageUnitSchemas.put(entry.getKey(), entry.getValue());
+                write(entry.getKey(), getSchemaVersion(entry.getKey(), storageUnitMaterials.get(entry.getKey())), missedMetaDataVersions.get(entry.getKey()), entry.getValue());
+            }
+        }
+        if (!snapshotMetaDataVersions.isEmpty()) {
+            validateExecutor.execute(() -> validate(storageUnitMaterials, snapshotMetaDataVersions));
+        }
+        return merge(storageUnitSchemas.values());
+    }
+    
+    private Map<String, Collection<MetaDataLoaderMaterial>> groupByStorageUnit(final Collection<MetaDataLoaderMaterial> materials) {
+        Map<String, Collection<MetaDataLoaderMaterial>> result = new LinkedHashMap<>(materials.size(), 1F);
+        for (MetaDataLoaderMaterial each : materials) {
+            result.computeIfAbsent(each.getStorageUnitName(), key -> new LinkedList<>()).add(each);
+        }
+        return result;
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private byte[] getSchemaVersion(final String storageUnitName, final Collection<MetaDataLoaderMaterial> materials) {
+        MessageDigest result = MessageDigest.getInstance("SHA-256");
+        update(result, getStorageLocation(storageUnitName));
+        Collection<String> actualTableNames = new TreeSet<>();
+        for (MetaDataLoaderMaterial each : materials) {
+            update(result, each.getStorageType().getType());
+            update(result, each.getDefaultSchemaName());
+            actualTableNames.addAll(each.getActualTableNames());
+        }
+        for (String each : actualTableNames) {
+            update(result, each);
+        }
+        return result.digest();
+    }
+    
+    private Map<String, byte[]> loadMetaDataVersions(final Map<String, Collection<MetaDataLoaderMaterial>> storageUnitMaterials) throws SQLException {
+        Map<String, byte[]> result = new LinkedHashMap<>(storageUnitMaterials.size(), 1F);
+        for (Entry<String, Collection<MetaDataLoaderMaterial>> entry : storageUnitMaterials.entrySet()) {
+            result.put(entry.getKey(), loadMetaDataVersion(entry.getValue()));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private byte[] loadMetaDataVersion(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        MessageDigest result = MessageDigest.getInstance("SHA-256");
+        Collection<String> actualTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        materials.forEach(each -> actualTableNames.addAll(each.getActualTableNames()));
+        try (
+                Connection connection = materials.iterator().next().getDataSource().getConnection();
+                ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), null, "%")) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString("TABLE_NAME");
+                if (actualTableNames.contains(tableName)) {
+                    update(result, tableName);
+                    update(result, resultSet.getString("COLUMN_NAME"));
+                    update(result, resultSet.getString("TYPE_NAME"));
+                    update(result, resultSet.getString("COLUMN_SIZE"));
+                    update(result, resultSet.getString("DECIMAL_DIGITS"));
+                    update(result, resultSet.getString("IS_NULLABLE"));
+                    update(result, resultSet.getString("IS_AUTOINCREMENT"));
+                }
+            }
+        }
+        return result.digest();
+    }
+    
+    private void update(final MessageDigest messageDigest, final String value) {
+        messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+    
+    private String getStorageLocation(final String storageUnitName) {
+        StorageUnit storageUnit = storageUnits.get(storageUnitName.contains(".") ? storageUnitName.split("\\.")[0] : storageUnitName);
+        ConnectionProperties connectionProps = null == storageUnit ? null : storageUnit.getConnectionProperties();
+        return null == connectionProps
+                ? storageUnitName
+                : String.join(":", storageUnitName, connectionProps.getHostname(), String.valueOf(connectionProps.getPort()), connectionProps.getCatalog(), connectionProps.getSchema());
+    }
+    
+    private Path getSnapshotFile(final String storageUnitName) {
+        String storageLocation = getStorageLocation(storageUnitName);
+        return snapshotPath.resolve(storageUnitName.replaceAll("[^\\w.-]", "_") + "_" + Integer.toHexString(storageLocation.hashCode()) + SNAPSHOT_FILE_SUFFIX);
+    }
+    
+    private Optional<MetaDataSnapshot> read(final String storageUnitName, final byte[] schemaVersion) {
+        Path snapshotFile = getSnapshotFile(storageUnitName);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            Optional<MetaDataSnapshot> result = MetaDataSnapshotCodec.decode(channel.map(MapMode.READ_ONLY, 0L, channel.size()), schemaVersion);
+            if (!result.isPresent()) {
+                log.info("Meta data snapshot `{}` is outdated, load meta data of storage unit `{}` from database.", snapshotFile, storageUnitName);
+            }
+            return result;
+        } catch (final IOException ex) {
+            log.warn("Read meta data snapshot `{}` failed.", snapshotFile, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private void write(final String storageUnitName, final byte[] schemaVersion, final byte[] metaDataVersion, final Collection<SchemaMetaData> schemas) {
+        Path snapshotFile = getSnapshotFile(storageUnitName);
+        try {
+            Files.createDirectories(snapshotPath);
+            Path tempFile = Files.createTempFile(snapshotPath, snapshotFile.getFileName().toString(), ".tmp");
+            Files.write(tempFile, MetaDataSnapshotCodec.encode(schemaVersion, metaDataVersion, schemas));
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Write meta data snapshot `{}` failed.", snapshotFile, ex);
+        }
+    }
+    
+    private boolean isValidated(final String storageUnitName, final byte[] metaDataVersion) {
+        byte[] validatedMetaDataVersion = VALIDATED_META_DATA_VERSIONS.remove(getSnapshotFile(storageUnitName));
+        return null != validatedMetaDataVersion && Arrays.equals(validatedMetaDataVersion, metaDataVersion);
+    }
+    
+    private void validate(final Map<String, Collection<MetaDataLoaderMaterial>> storageUnitMaterials, final Map<String, byte[]> snapshotMetaDataVersions) {
+        boolean changed = false;
+        for (Entry<String, byte[]> entry : snapshotMetaDataVersions.entrySet()) {
+            changed |= validate(entry.getKey(), storageUnitMaterials.get(entry.getKey()), entry.getValue());
+        }
+        if (changed) {
+            snapshotChangedCallback.run();
+        }
+    }
+    
+    private boolean validate(final String storageUnitName, final Collection<MetaDataLoaderMaterial> materials, final byte[] snapshotMetaDataVersion) {
+        byte[] metaDataVersion;
+        Collection<SchemaMetaData> actual;
+        try {
+            metaDataVersion = loadMetaDataVersion(materials);
+            if (Arrays.equals(metaDataVersion, snapshotMetaDataVersion)) {
+                return false;
+            }
+            actual = MetaDataLoader.loadByStorageUnit(materials).getOrDefault(storageUnitName, Collections.emptyList());
+        } catch (final SQLException ex) {
+            log.warn("Validate meta data snapshot of storage unit `{}` failed.", storageUnitName, ex);
+            return false;
+        }
+        write(storageUnitName, getSchemaVersion(storageUnitName, materials), metaDataVersion, actual);
+        VALIDATED_META_DATA_VERSIONS.put(getSnapshotFile(storageUnitName), metaDataVersion);
+        log.warn("Table meta data of storage unit `{}` is changed since its snapshot was taken, reload table meta data.", storageUnitName);
+        return true;
+    }
+    
+    private Map<String, SchemaMetaData> merge(final Collection<Collection<SchemaMetaData>> schemaMetaDataList) {
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>();
+        for (Collection<SchemaMetaData> each : schemaMetaDataList) {
+            for (SchemaMetaData schema : each) {
+                result.computeIfAbsent(schema.getName(), key -> new SchemaMetaData(schema.getName(), new LinkedList<>())).getTables().addAll(schema.getTables());
+            }
+        }
+        return result;
+    }
+}
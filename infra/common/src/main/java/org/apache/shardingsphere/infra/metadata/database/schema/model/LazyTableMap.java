@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Lazy table map.
+ *
+ * <p>Only table names are kept for every table, and tables are loaded on first reference into a size bounded cache.
+ * An evicted table is loaded again on next reference, while a put table replaces the cached one atomically, so that tables refreshed by DDL are never overwritten by stale loads.
+ * Iterating all tables loads the uncached tables in one batch without filling the cache with them.
+ * A table which can not be loaded is removed from the table names.</p>
+ */
+final class LazyTableMap extends AbstractMap<ShardingSphereIdentifier, ShardingSphereTable> {
+    
+    private final Map<ShardingSphereIdentifier, String> tableNames = new ConcurrentHashMap<>();
+    
+    private final Function<Collection<String>, Collection<ShardingSphereTable>> tableLoader;
+    
+    private final Cache<ShardingSphereIdentifier, ShardingSphereTable> cachedTables;
+    
+    LazyTableMap(final Collection<String> tableNames, final Function<Collection<String>, Collection<ShardingSphereTable>> tableLoader, final int maxCachedTables) {
+        tableNames.forEach(each -> this.tableNames.put(new ShardingSphereIdentifier(each), each));
+        this.tableLoader = tableLoader;
+        cachedTables = Caffeine.newBuilder().maximumSize(maxCachedTables).build();
+    }
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+    
+    @Override
+    public ShardingSphereTable get(final Object key) {
+        String tableName = tableNames.get(key);
+        if (null == tableName) {
+            return null;
+        }
+        ShardingSphereTable result = cachedTables.get((ShardingSphereIdentifier) key, each -> loadTable(tableName));
+        if (null == result) {
+            tableNames.remove(key);
+        }
+        return result;
+    }
+    
+    private ShardingSphereTable loadTable(final String tableName) {
+        Iterator<ShardingSphereTable> result = tableLoader.apply(Collections.singleton(tableName)).iterator();
+        return result.hasNext() ? result.next() : null;
+    }
+    
+    @Override
+    public ShardingSphereTable put(final ShardingSphereIdentifier key, final ShardingSphereTable value) {
+        tableNames.put(key, value.getName());
+        return cachedTables.asMap().put(key, value);
+    }
+    
+    @Override
+    public ShardingSphereTable remove(final Object key) {
+        tableNames.remove(key);
+        return cachedTables.asMap().remove(key);
+    }
+    
+    @Override
+    public int size() {
+        return tableNames.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return tableNames.isEmpty();
+    }
+    
+    @Override
+    public Set<ShardingSphereIdentifier> keySet() {
+        return Collections.unmodifiableSet(tableNames.keySet());
+    }
+    
+    @Override
+    public Collection<ShardingSphereTable> values() {
+        return Collections.unmodifiableCollection(loadAllTables().values());
+    }
+    
+    @Override
+    public Set<Entry<ShardingSphereIdentifier, ShardingSphereTable>> entrySet() {
+        return Collections.unmodifiableMap(loadAllTables()).entrySet();
+    }
+    
+    private Map<ShardingSphereIdentifier, ShardingSphereTable> loadAllTables() {
+        Map<ShardingSphereIdentifier, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        Map<ShardingSphereIdentifier, String> unloadedTableNames = new LinkedHashMap<>();
+        for (Entry<ShardingSphereIdentifier, String> entry : tableNames.entrySet()) {
+            ShardingSphereTable table = cachedTables.getIfPresent(entry.getKey());
+            if (null == table) {
+                unloadedTableNames.put(entry.getKey(), entry.getValue());
+            } else {
+                result.put(entry.getKey(), table);
+            }
+        }
+        if (unloadedTableNames.isEmpty()) {
+            return result;
+        }
+        Map<ShardingSphereIdentifier, ShardingSphereTable> loadedTables = new HashMap<>(unloadedTableNames.size(), 1F);
+        tableLoader.apply(unloadedTableNames.values()).forEach(each -> loadedTables.put(new ShardingSphereIdentifier(each.getName()), each));
+        for (ShardingSphereIdentifier each : unloadedTableNames.keySet()) {
+            ShardingSphereTable table = loadedTables.get(each);
+            if (null != table) {
+                result.put(each, table);
+            } else if (null == cachedTables.getIfPresent(each)) {
+                tableNames.remove(each);
+            }
+        }
+        return result;
+    }
+}
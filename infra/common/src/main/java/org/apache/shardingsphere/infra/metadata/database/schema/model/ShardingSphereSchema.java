@@ -25,6 +25,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * ShardingSphere schema.
@@ -53,6 +55,12 @@ public final class ShardingSphereSchema {
         views.forEach(each -> this.views.put(new ShardingSphereIdentifier(each.getName()), each));
     }
     
+    public ShardingSphereSchema(final String name, final Collection<String> tableNames, final Function<Collection<String>, Collection<ShardingSphereTable>> tableLoader, final int maxCachedTables) {
+        this.name = name;
+        tables = new LazyTableMap(tableNames, tableLoader, maxCachedTables);
+        views = new ConcurrentHashMap<>();
+    }
+    
     /**
      * Get all tables.
      *
@@ -62,6 +70,17 @@ public final class ShardingSphereSchema {
         return tables.values();
     }
     
+    /**
+     * Get all table names.
+     *
+     * <p>Tables are not loaded to get their names if they are loaded lazily.</p>
+     *
+     * @return all table names
+     */
+    public Collection<String> getAllTableNames() {
+        return tables.keySet().stream().map(ShardingSphereIdentifier::getValue).collect(Collectors.toList());
+    }
+    
     /**
      * Judge whether contains table.
      *
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.table;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectTableStatisticsOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.ShardingSphereTableStatisticsCollector;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table statistics collector for shardingsphere.table_statistics.
+ *
+ * <p>Collects row count of every data node from the statistics maintained by database, so that tables are never scanned.
+ * Data nodes whose database does not provide estimated row count, or has not estimated it yet, are skipped.</p>
+ */
+public final class ShardingSphereTableStatisticsTableStatisticsCollector implements ShardingSphereTableStatisticsCollector {
+    
+    @Override
+    public Collection<Map<String, Object>> collect(final String databaseName, final String schemaName, final String tableName, final ShardingSphereMetaData metaData) throws SQLException {
+        Collection<Map<String, Object>> result = new LinkedList<>();
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        Collection<String> systemSchemas = new SystemDatabase(database.getProtocolType()).getSystemSchemas();
+        for (ShardingSphereSchema each : database.getAllSchemas()) {
+            if (!systemSchemas.contains(each.getName())) {
+                for (ShardingSphereTable table : each.getAllTables()) {
+                    result.addAll(collectTable(database, each.getName(), table));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<Map<String, Object>> collectTable(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table) throws SQLException {
+        Collection<Map<String, Object>> result = new LinkedList<>();
+        for (DataNode each : getDataNodes(database, table.getName())) {
+            Optional<StorageUnit> storageUnit = findStorageUnit(database, each.getDataSourceName());
+            if (storageUnit.isPresent()) {
+                collectDataNode(storageUnit.get(), schemaName, table, each).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getDataNodes(final ShardingSphereDatabase database, final String tableName) {
+        for (DataNodeRuleAttribute each : database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)) {
+            Collection<DataNode> result = each.getDataNodesByTableName(tableName);
+            if (!result.isEmpty()) {
+                return each.isReplicaBasedDistribution() ? Collections.singleton(result.iterator().next()) : result;
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<StorageUnit> findStorageUnit(final ShardingSphereDatabase database, final String dataSourceName) {
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        if (storageUnits.containsKey(dataSourceName)) {
+            return Optional.of(storageUnits.get(dataSourceName));
+        }
+        for (DataSourceMapperRuleAttribute each : database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)) {
+            Optional<String> actualDataSourceName = each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList()).stream().filter(storageUnits::containsKey).findFirst();
+            if (actualDataSourceName.isPresent()) {
+                return Optional.of(storageUnits.get(actualDataSourceName.get()));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Map<String, Object>> collectDataNode(final StorageUnit storageUnit, final String schemaName, final ShardingSphereTable table, final DataNode dataNode) throws SQLException {
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData();
+        Optional<DialectTableStatisticsOption> tableStatisticsOption = dialectDatabaseMetaData.getTableStatisticsOption();
+        if (!tableStatisticsOption.isPresent()) {
+            return Optional.empty();
+        }
+        long rowCount;
+        try (
+                Connection connection = storageUnit.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(tableStatisticsOption.get().getEstimatedRowCountSQL())) {
+            preparedStatement.setString(1, getActualSchemaName(dialectDatabaseMetaData, connection, dataNode));
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                rowCount = resultSet.next() ? resultSet.getLong(1) : -1L;
+            }
+        }
+        if (rowCount < 0L) {
+            return Optional.empty();
+        }
+        Map<String, Object> result = new CaseInsensitiveMap<>(6, 1F);
+        result.put("schema_name", schemaName);
+        result.put("table_name", table.getName());
+        result.put("data_source_name", dataNode.getDataSourceName());
+        result.put("actual_table_name", dataNode.getTableName());
+        result.put("row_count", rowCount);
+        return Optional.of(result);
+    }
+    
+    private String getActualSchemaName(final DialectDatabaseMetaData dialectDatabaseMetaData, final Connection connection, final DataNode dataNode) throws SQLException {
+        if (!dialectDatabaseMetaData.getSchemaOption().isSchemaAvailable()) {
+            return connection.getCatalog();
+        }
+        return null == dataNode.getSchemaName() ? connection.getSchema() : dataNode.getSchemaName();
+    }
+    
+    @Override
+    public String getSchemaName() {
+        return "shardingsphere";
+    }
+    
+    @Override
+    public String getTableName() {
+        return "table_statistics";
+    }
+    
+    @Override
+    public String getType() {
+        return "shardingsphere.table_statistics";
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.attribute.datanode;
+
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
+
+import java.util.List;
+
+/**
+ * Co-located join rule attribute.
+ */
+public interface ColocatedJoinRuleAttribute extends RuleAttribute {
+    
+    /**
+     * Judge whether tables are co-located when they are joined with equal conditions on the columns.
+     *
+     * <p>Co-located tables can be joined on each storage node without moving rows across data nodes.</p>
+     *
+     * @param leftTable left logic table name
+     * @param leftColumns left join column names
+     * @param rightTable right logic table name
+     * @param rightColumns right join column names, each one is equal to the left join column at the same index
+     * @return co-located or not
+     */
+    boolean isColocatedJoin(String leftTable, List<String> leftColumns, String rightTable, List<String> rightColumns);
+}
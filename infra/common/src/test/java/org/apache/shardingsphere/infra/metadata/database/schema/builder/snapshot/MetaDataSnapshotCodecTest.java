@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.TableType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaDataSnapshotCodecTest {
+    
+    private final byte[] schemaVersion = {1, 2, 3};
+    
+    private final byte[] metaDataVersion = {4, 5, 6};
+    
+    @Test
+    void assertDecode() {
+        Optional<MetaDataSnapshot> actual = MetaDataSnapshotCodec.decode(ByteBuffer.wrap(MetaDataSnapshotCodec.encode(schemaVersion, metaDataVersion, createSchemas())), schemaVersion);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getMetaDataVersion(), is(metaDataVersion));
+        assertThat(actual.get().getSchemas().size(), is(1));
+        SchemaMetaData schema = actual.get().getSchemas().iterator().next();
+        assertThat(schema.getName(), is("foo_schema"));
+        assertThat(schema.getTables().size(), is(2));
+        Iterator<TableMetaData> tables = schema.getTables().iterator();
+        TableMetaData table = tables.next();
+        assertThat(table.getName(), is("t_order_0"));
+        assertThat(table.getType(), is(TableType.TABLE));
+        Iterator<ColumnMetaData> columns = table.getColumns().iterator();
+        assertColumn(columns.next(), "order_id", Types.BIGINT, true, true);
+        assertColumn(columns.next(), "描述", Types.VARCHAR, false, false);
+        IndexMetaData index = table.getIndexes().iterator().next();
+        assertThat(index.getName(), is("idx_user_id"));
+        assertTrue(index.isUnique());
+        assertThat(index.getColumns(), is(Collections.singletonList("user_id")));
+        ConstraintMetaData constraint = table.getConstraints().iterator().next();
+        assertThat(constraint.getName(), is("fk_user"));
+        assertThat(constraint.getReferencedTableName(), nullValue());
+        TableMetaData view = tables.next();
+        assertThat(view.getName(), is("v_order"));
+        assertThat(view.getType(), is(TableType.VIEW));
+        assertTrue(view.getColumns().isEmpty());
+    }
+    
+    private void assertColumn(final ColumnMetaData actual, final String name, final int dataType, final boolean primaryKey, final boolean unsigned) {
+        assertThat(actual.getName(), is(name));
+        assertThat(actual.getDataType(), is(dataType));
+        assertThat(actual.isPrimaryKey(), is(primaryKey));
+        assertFalse(actual.isGenerated());
+        assertTrue(actual.isCaseSensitive());
+        assertTrue(actual.isVisible());
+        assertThat(actual.isUnsigned(), is(unsigned));
+        assertThat(actual.isNullable(), is(!primaryKey));
+    }
+    
+    @Test
+    void assertDecodeWithAnotherSchemaVersion() {
+        assertFalse(MetaDataSnapshotCodec.decode(ByteBuffer.wrap(MetaDataSnapshotCodec.encode(schemaVersion, metaDataVersion, createSchemas())), new byte[]{1, 2, 4}).isPresent());
+    }
+    
+    @Test
+    void assertDecodeWithCorruptedSnapshot() {
+        byte[] snapshot = MetaDataSnapshotCodec.encode(schemaVersion, metaDataVersion, createSchemas());
+        snapshot[snapshot.length / 2] ^= 1;
+        assertFalse(MetaDataSnapshotCodec.decode(ByteBuffer.wrap(snapshot), schemaVersion).isPresent());
+    }
+    
+    @Test
+    void assertDecodeWithTruncatedSnapshot() {
+        assertFalse(MetaDataSnapshotCodec.decode(ByteBuffer.wrap(new byte[]{1, 2, 3}), schemaVersion).isPresent());
+    }
+    
+    private Collection<SchemaMetaData> createSchemas() {
+        Collection<ColumnMetaData> columns = Arrays.asList(
+                new ColumnMetaData("order_id", Types.BIGINT, true, false, true, true, true, false), new ColumnMetaData("描述", Types.VARCHAR, false, false, true, true, false, true));
+        IndexMetaData index = new IndexMetaData("idx_user_id", Collections.singletonList("user_id"));
+        index.setUnique(true);
+        TableMetaData table = new TableMetaData("t_order_0", columns, Collections.singletonList(index), Collections.singletonList(new ConstraintMetaData("fk_user", null)));
+        TableMetaData view = new TableMetaData("v_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), TableType.VIEW);
+        return Collections.singletonList(new SchemaMetaData("foo_schema", Arrays.asList(table, view)));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.datatype.DataTypeRegistry;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.infra.framework.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({MetaDataLoader.class, DataTypeRegistry.class})
+class MetaDataSnapshotLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @TempDir
+    private Path snapshotPath;
+    
+    @Test
+    void assertLoadWithoutSnapshot() throws SQLException, IOException {
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_0")));
+        Map<String, SchemaMetaData> actual = createLoader().load(createMaterials("BIGINT"));
+        assertThat(actual.get("foo_schema").getTables().iterator().next().getName(), is("t_order_0"));
+        try (Stream<Path> snapshotFiles = Files.list(snapshotPath)) {
+            assertThat(snapshotFiles.count(), is(1L));
+        }
+    }
+    
+    @Test
+    void assertLoadWithSnapshot() throws SQLException {
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_0")));
+        createLoader().load(createMaterials("BIGINT"));
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_1")));
+        Runnable snapshotChangedCallback = mock(Runnable.class);
+        Map<String, SchemaMetaData> actual = createLoader(snapshotChangedCallback).load(createMaterials("BIGINT"));
+        assertThat(actual.get("foo_schema").getTables().iterator().next().getName(), is("t_order_0"));
+        verify(snapshotChangedCallback, never()).run();
+    }
+    
+    @Test
+    void assertLoadWithChangedSnapshot() throws SQLException {
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_0")));
+        createLoader().load(createMaterials("BIGINT"));
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_1")));
+        Runnable snapshotChangedCallback = mock(Runnable.class);
+        createLoader(snapshotChangedCallback).load(createMaterials("VARCHAR"));
+        verify(snapshotChangedCallback).run();
+        Runnable reloadedSnapshotChangedCallback = mock(Runnable.class);
+        MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Collections.singleton("t_order_0"), "foo_ds", new MockedDataSource(), databaseType, "foo_schema");
+        Map<String, SchemaMetaData> actual = createLoader(reloadedSnapshotChangedCallback).load(Collections.singleton(material));
+        assertThat(actual.get("foo_schema").getTables().iterator().next().getName(), is("t_order_1"));
+        verify(reloadedSnapshotChangedCallback, never()).run();
+    }
+    
+    @Test
+    void assertLoadWithOutdatedSnapshot() throws SQLException {
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_0")));
+        createLoader().load(createMaterials("BIGINT"));
+        when(MetaDataLoader.loadByStorageUnit(any())).thenReturn(Collections.singletonMap("foo_ds", createSchemas("t_order_1")));
+        MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Arrays.asList("t_order_0", "t_order_1"), "foo_ds", createDataSource("BIGINT"), databaseType, "foo_schema");
+        Map<String, SchemaMetaData> actual = createLoader().load(Collections.singleton(material));
+        assertThat(actual.get("foo_schema").getTables().iterator().next().getName(), is("t_order_1"));
+    }
+    
+    private MetaDataSnapshotLoader createLoader() {
+        return createLoader(mock(Runnable.class));
+    }
+    
+    private MetaDataSnapshotLoader createLoader(final Runnable snapshotChangedCallback) {
+        return new MetaDataSnapshotLoader(snapshotPath, Collections.singletonMap("foo_ds", mock(StorageUnit.class)), snapshotChangedCallback, Runnable::run);
+    }
+    
+    private Collection<MetaDataLoaderMaterial> createMaterials(final String columnTypeName) throws SQLException {
+        return Collections.singleton(new MetaDataLoaderMaterial(Collections.singleton("t_order_0"), "foo_ds", createDataSource(columnTypeName), databaseType, "foo_schema"));
+    }
+    
+    private DataSource createDataSource(final String columnTypeName) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("t_order_0");
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("order_id");
+        when(resultSet.getString("TYPE_NAME")).thenReturn(columnTypeName);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getColumns(any(), any(), any(), any())).thenReturn(resultSet);
+        return new MockedDataSource(connection);
+    }
+    
+    private Collection<SchemaMetaData> createSchemas(final String tableName) {
+        TableMetaData table = new TableMetaData(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        return Collections.singleton(new SchemaMetaData("foo_schema", Collections.singleton(table)));
+    }
+}
@@ -19,10 +19,21 @@ package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -92,4 +103,98 @@ class ShardingSphereSchemaTest {
                 new ShardingSphereColumn("col", 0, false, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
         assertThat(new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList()).getVisibleColumnNames("tbl"), is(Collections.emptyList()));
     }
+    
+    @Test
+    void assertGetTableWithLazyLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Arrays.asList("foo_tbl", "bar_tbl"), createTableLoader(loadedCounts), 16);
+        assertThat(actual.getTable("FOO_TBL").getName(), is("foo_tbl"));
+        assertTrue(actual.containsTable("foo_tbl"));
+        assertThat(loadedCounts.get("foo_tbl").get(), is(1));
+        assertFalse(loadedCounts.containsKey("bar_tbl"));
+    }
+    
+    @Test
+    void assertGetNotExistedTableWithLazyLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Arrays.asList("foo_tbl", "missing_tbl"), createTableLoader(loadedCounts), 16);
+        assertFalse(actual.containsTable("missing_tbl"));
+        assertNull(actual.getTable("missing_tbl"));
+        assertThat(loadedCounts.get("missing_tbl").get(), is(1));
+        assertThat(actual.getAllTables().size(), is(1));
+    }
+    
+    @Test
+    void assertPutAndRemoveTableWithLazyLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Collections.emptyList(), createTableLoader(loadedCounts), 16);
+        assertTrue(actual.isEmpty());
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        actual.putTable(table);
+        assertThat(actual.getTable("foo_tbl"), is(table));
+        assertTrue(loadedCounts.isEmpty());
+        actual.removeTable("foo_tbl");
+        assertFalse(actual.containsTable("foo_tbl"));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertGetAllTablesWithLazyLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Arrays.asList("foo_tbl", "bar_tbl"), createTableLoader(loadedCounts), 1);
+        assertThat(actual.getAllTables().size(), is(2));
+        assertThat(actual.getAllTables().stream().map(ShardingSphereTable::getName).sorted().toArray(), is(new Object[]{"bar_tbl", "foo_tbl"}));
+    }
+    
+    @Test
+    void assertGetAllTablesWithBatchLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        List<Collection<String>> loadedBatches = new LinkedList<>();
+        Function<Collection<String>, Collection<ShardingSphereTable>> tableLoader = createTableLoader(loadedCounts);
+        Collection<String> tableNames = IntStream.range(0, 100).mapToObj(each -> "tbl_" + each).collect(Collectors.toCollection(LinkedList::new));
+        tableNames.add("missing_tbl");
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", tableNames, each -> {
+            loadedBatches.add(new LinkedList<>(each));
+            return tableLoader.apply(each);
+        }, 10);
+        ShardingSphereTable cachedTable = actual.getTable("tbl_0");
+        Collection<ShardingSphereTable> allTables = actual.getAllTables();
+        assertThat(allTables.size(), is(100));
+        assertTrue(allTables.contains(cachedTable));
+        assertThat(loadedBatches.size(), is(2));
+        assertThat(loadedBatches.get(1).size(), is(100));
+        assertFalse(loadedBatches.get(1).contains("tbl_0"));
+        assertThat(loadedCounts.get("missing_tbl").get(), is(1));
+        assertThat(actual.getAllTables().size(), is(100));
+        assertThat(loadedBatches.size(), is(3));
+        assertThat(loadedBatches.get(2).size(), is(99));
+        assertFalse(loadedBatches.get(2).contains("missing_tbl"));
+    }
+    
+    @Test
+    void assertGetAllTablesWithPutTableAndLazyLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Arrays.asList("foo_tbl", "bar_tbl"), createTableLoader(loadedCounts), 16);
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        actual.putTable(table);
+        assertTrue(actual.getAllTables().contains(table));
+        assertFalse(loadedCounts.containsKey("foo_tbl"));
+        assertThat(loadedCounts.get("bar_tbl").get(), is(1));
+    }
+    
+    @Test
+    void assertGetAllTableNamesWithLazyLoading() {
+        Map<String, AtomicInteger> loadedCounts = new ConcurrentHashMap<>();
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Arrays.asList("foo_tbl", "bar_tbl"), createTableLoader(loadedCounts), 16);
+        assertThat(actual.getAllTableNames().stream().sorted().toArray(), is(new Object[]{"bar_tbl", "foo_tbl"}));
+        assertTrue(loadedCounts.isEmpty());
+    }
+    
+    private Function<Collection<String>, Collection<ShardingSphereTable>> createTableLoader(final Map<String, AtomicInteger> loadedCounts) {
+        return tableNames -> {
+            tableNames.forEach(each -> loadedCounts.computeIfAbsent(each, key -> new AtomicInteger()).incrementAndGet());
+            return tableNames.stream().filter(each -> !"missing_tbl".equals(each))
+                    .map(each -> new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList())).collect(Collectors.toList());
+        };
+    }
 }
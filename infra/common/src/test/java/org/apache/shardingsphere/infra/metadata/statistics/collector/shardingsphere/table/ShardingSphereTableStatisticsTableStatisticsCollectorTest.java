@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.table;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardingSphereTableStatisticsTableStatisticsCollectorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertCollect() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getCatalog()).thenReturn("foo_ds");
+        PreparedStatement preparedStatement = connection.prepareStatement("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?");
+        when(preparedStatement.executeQuery().next()).thenReturn(true);
+        when(preparedStatement.executeQuery().getLong(1)).thenReturn(3L);
+        List<Map<String, Object>> actual = new ArrayList<>(
+                new ShardingSphereTableStatisticsTableStatisticsCollector().collect("foo_db", "shardingsphere", "table_statistics", mockMetaData(mockStorageUnit(connection))));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).get("schema_name"), is("foo_db"));
+        assertThat(actual.get(0).get("table_name"), is("t_order"));
+        assertThat(actual.get(0).get("data_source_name"), is("foo_ds"));
+        assertThat(actual.get(0).get("actual_table_name"), is("t_order_0"));
+        assertThat(actual.get(0).get("row_count"), is(3L));
+        verify(preparedStatement).setString(1, "foo_ds");
+        verify(preparedStatement).setString(2, "t_order_0");
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    void assertCollectWithoutEstimatedRowCount() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.prepareStatement(anyString()).executeQuery().next()).thenReturn(false);
+        assertTrue(new ShardingSphereTableStatisticsTableStatisticsCollector().collect("foo_db", "shardingsphere", "table_statistics", mockMetaData(mockStorageUnit(connection))).isEmpty());
+    }
+    
+    private StorageUnit mockStorageUnit(final Connection connection) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(databaseType);
+        when(result.getDataSource().getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    private ShardingSphereMetaData mockMetaData(final StorageUnit storageUnit) {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getProtocolType()).thenReturn(databaseType);
+        when(database.getAllSchemas()).thenReturn(Arrays.asList(new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList()), new ShardingSphereSchema("shardingsphere")));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", storageUnit));
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.getDataNodesByTableName(anyString())).thenReturn(Collections.emptyList());
+        when(ruleAttribute.getDataNodesByTableName("t_order")).thenReturn(Collections.singleton(new DataNode("foo_ds.t_order_0")));
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class);
+        when(result.getDatabase("foo_db")).thenReturn(database);
+        return result;
+    }
+}
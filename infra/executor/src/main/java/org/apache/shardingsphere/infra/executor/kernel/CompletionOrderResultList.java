@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorExceptionHandler;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Result list which collects asynchronous execution results in completion order.
+ *
+ * <p>Iterating the list only waits for the next finished execution group, so consumers can start with whichever result is ready first.
+ * {@link #size()} still waits for all execution groups to finish.</p>
+ *
+ * <p>Failures of execution groups are passed to the executor exception handler, and thrown as {@link SQLException} if the handler throws.
+ * Closing the list skips execution groups which are not started yet and waits for the running ones,
+ * so that resources used by execution groups can be released safely after closed.
+ * If the waiting thread is interrupted, the execution groups which are not started yet are skipped and {@link SQLExecutionInterruptedException} is thrown.</p>
+ *
+ * @param <O> type of result
+ */
+public final class CompletionOrderResultList<O> extends AbstractList<O> implements AutoCloseable {
+    
+    private final ArrayList<O> completedResults = new ArrayList<>();
+    
+    private final CompletionService<Collection<O>> completionService;
+    
+    private final ExecutorExceptionHandler exceptionHandler;
+    
+    private final Collection<ExecutionGroupTask<O>> tasks = new LinkedList<>();
+    
+    private int pendingCount;
+    
+    private boolean closed;
+    
+    CompletionOrderResultList(final ExecutorService executorService, final ExecutorExceptionHandler exceptionHandler) {
+        completionService = new ExecutorCompletionService<>(executorService);
+        this.exceptionHandler = exceptionHandler;
+    }
+    
+    void submit(final Callable<Collection<O>> callable) {
+        ExecutionGroupTask<O> task = new ExecutionGroupTask<>(callable);
+        tasks.add(task);
+        completionService.submit(task);
+        pendingCount++;
+    }
+    
+    void addFirstResults(final Collection<O> firstResults) {
+        completedResults.addAll(0, firstResults);
+    }
+    
+    @Override
+    public O get(final int index) {
+        isAvailable(index);
+        return completedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        while (pendingCount > 0) {
+            takeNext();
+        }
+        return completedResults.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return !isAvailable(0);
+    }
+    
+    @Override
+    public Iterator<O> iterator() {
+        return new CompletionOrderIterator();
+    }
+    
+    private boolean isAvailable(final int index) {
+        while (completedResults.size() <= index && pendingCount > 0) {
+            takeNext();
+        }
+        return completedResults.size() > index;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void takeNext() {
+        pendingCount--;
+        try {
+            completedResults.addAll(completionService.take().get());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            skipPendingTasks();
+            throw new SQLExecutionInterruptedException();
+        } catch (final ExecutionException ex) {
+            handleException(ex.getCause() instanceof Exception ? (Exception) ex.getCause() : new UnknownSQLException(ex).toSQLException());
+        }
+    }
+    
+    private void handleException(final Exception exception) throws SQLException {
+        try {
+            exceptionHandler.handleException(exception);
+        } catch (final SQLException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        skipPendingTasks();
+        for (ExecutionGroupTask<O> each : tasks) {
+            each.await();
+        }
+    }
+    
+    private void skipPendingTasks() {
+        pendingCount = 0;
+        for (ExecutionGroupTask<O> each : tasks) {
+            each.skip();
+        }
+    }
+    
+    private final class CompletionOrderIterator implements Iterator<O> {
+        
+        private int cursor;
+        
+        @Override
+        public boolean hasNext() {
+            return isAvailable(cursor);
+        }
+        
+        @Override
+        public O next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return completedResults.get(cursor++);
+        }
+    }
+    
+    private static final class ExecutionGroupTask<O> implements Callable<Collection<O>> {
+        
+        private final Callable<Collection<O>> callable;
+        
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        
+        private final CountDownLatch finishedLatch = new CountDownLatch(1);
+        
+        ExecutionGroupTask(final Callable<Collection<O>> callable) {
+            this.callable = callable;
+        }
+        
+        @Override
+        public Collection<O> call() throws Exception {
+            if (!claimed.compareAndSet(false, true)) {
+                return Collections.emptyList();
+            }
+            try {
+                return callable.call();
+            } finally {
+                finishedLatch.countDown();
+            }
+        }
+        
+        void skip() {
+            if (claimed.compareAndSet(false, true)) {
+                finishedLatch.countDown();
+            }
+        }
+        
+        void await() {
+            try {
+                finishedLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLExecutionInterruptedException();
+            }
+        }
+    }
+}
@@ -19,11 +19,15 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -43,8 +47,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final ExecutorThreadType threadType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadType);
     }
     
     /**
@@ -54,7 +58,30 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, ExecutorThreadType.PLATFORM);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * <p>Executor size is ignored for virtual thread type, because every task runs on a new virtual thread.</p>
+     *
+     * @param executorSize executor size
+     * @param threadType executor thread type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final ExecutorThreadType threadType) {
+        return new ExecutorEngine(executorSize, threadType);
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return createExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE));
     }
     
     /**
@@ -78,6 +105,44 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute in parallel and collect results in completion order.
+     *
+     * <p>Results of the first execution group come first, the others follow in the order their execution groups finish.
+     * The returned list is populated lazily, iterating it only waits for the next finished execution group instead of all of them.
+     * Failures of the other execution groups are passed to the exception handler while iterating, and the returned list should be closed after used.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param exceptionHandler exception handler for the other execution groups
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> CompletionOrderResultList<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                                        final ExecutorCallback<I, O> callback, final ExecutorExceptionHandler exceptionHandler) throws SQLException {
+        CompletionOrderResultList<O> result = new CompletionOrderResultList<>(executorServiceManager.getExecutorService(), exceptionHandler);
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return result;
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            result.submit(() -> callback.execute(each.getInputs(), false, processId));
+        }
+        try {
+            result.addFirstResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+        } catch (final SQLException ex) {
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -69,4 +69,29 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and collect results in completion order.
+     *
+     * <p>Falls back to serial execution if distributed transaction started.
+     * Otherwise failures of execution groups are handled by {@link SQLExecutorExceptionHandler} while iterating the returned list,
+     * which is {@link AutoCloseable} and should be closed before the statements of execution groups are closed.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> callback) throws SQLException {
+        if (connectionContext.getTransactionContext().isDistributedTransactionStarted()) {
+            return execute(executionGroupContext, callback);
+        }
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, null, callback, SQLExecutorExceptionHandler::handleException);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
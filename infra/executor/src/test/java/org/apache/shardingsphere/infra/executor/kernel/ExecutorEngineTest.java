@@ -17,22 +17,31 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +97,124 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, SQLExecutorExceptionHandler::handleException);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithSlowExecutionGroup() throws SQLException {
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        ExecutorCallback<String, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("slow")) {
+                try {
+                    slowLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return inputs;
+        };
+        Iterator<String> actual = executorEngine.executeInCompletionOrder(
+                createExecutionGroupContext("first", "slow", "fast"), null, blockingCallback, SQLExecutorExceptionHandler::handleException).iterator();
+        assertThat(actual.next(), is("first"));
+        assertThat(actual.next(), is("fast"));
+        slowLatch.countDown();
+        assertThat(actual.next(), is("slow"));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithException() throws SQLException {
+        ExecutorCallback<String, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("failed")) {
+                throw new SQLException("failed");
+            }
+            return inputs;
+        };
+        Iterator<String> actual = executorEngine.executeInCompletionOrder(
+                createExecutionGroupContext("first", "failed"), null, failedCallback, SQLExecutorExceptionHandler::handleException).iterator();
+        assertThat(actual.next(), is("first"));
+        SQLException ex = assertThrows(SQLException.class, actual::hasNext);
+        assertThat(ex.getMessage(), is("failed"));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithIgnoredException() throws SQLException {
+        ExecutorCallback<String, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("failed")) {
+                throw new SQLException("failed");
+            }
+            return inputs;
+        };
+        List<String> actual = executorEngine.executeInCompletionOrder(createExecutionGroupContext("first", "failed"), null, failedCallback, ex -> {
+        });
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is("first"));
+    }
+    
+    @Test
+    void assertCloseExecuteInCompletionOrderResultWaitsForRunningExecutionGroups() throws SQLException, InterruptedException {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch releasedLatch = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        ExecutorCallback<String, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("slow")) {
+                startedLatch.countDown();
+                awaitQuietly(releasedLatch);
+                finished.set(true);
+            }
+            return inputs;
+        };
+        CompletionOrderResultList<String> actual = executorEngine.executeInCompletionOrder(
+                createExecutionGroupContext("first", "slow"), null, blockingCallback, SQLExecutorExceptionHandler::handleException);
+        startedLatch.await();
+        new Thread(releasedLatch::countDown).start();
+        actual.close();
+        assertTrue(finished.get());
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    void assertSizeExecuteInCompletionOrderResultWhenInterrupted() throws SQLException, InterruptedException {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch releasedLatch = new CountDownLatch(1);
+        ExecutorCallback<String, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            if (inputs.contains("slow")) {
+                startedLatch.countDown();
+                awaitQuietly(releasedLatch);
+            }
+            return inputs;
+        };
+        CompletionOrderResultList<String> actual = executorEngine.executeInCompletionOrder(
+                createExecutionGroupContext("first", "slow"), null, blockingCallback, SQLExecutorExceptionHandler::handleException);
+        startedLatch.await();
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(SQLExecutionInterruptedException.class, actual::size);
+            assertTrue(Thread.interrupted());
+        } finally {
+            releasedLatch.countDown();
+        }
+        actual.close();
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private ExecutionGroupContext<String> createExecutionGroupContext(final String... inputs) {
+        Collection<ExecutionGroup<String>> result = new LinkedList<>();
+        for (String each : inputs) {
+            result.add(new ExecutionGroup<>(Collections.singletonList(each)));
+        }
+        return new ExecutionGroupContext<>(result, mock(ExecutionGroupReportContext.class));
+    }
 }
@@ -22,6 +22,7 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -62,4 +63,16 @@ class ExecutorServiceManagerTest {
             throw ex;
         }
     }
+    
+    @Test
+    void assertThreadLocalValueTransmittedWithVirtualThreadType() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, ExecutorThreadType.VIRTUAL);
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        try {
+            assertThat(executorServiceManager.getExecutorService().submit(TRANSMITTABLE_THREAD_LOCAL::get).get(), is("foo"));
+        } finally {
+            TRANSMITTABLE_THREAD_LOCAL.remove();
+            executorServiceManager.close();
+        }
+    }
 }
@@ -19,10 +19,13 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorThreadFactoryBuilderTest {
     
@@ -33,4 +36,26 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildVirtualWithNameFormat() {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual("test-%d");
+        if (!isVirtualThreadSupported()) {
+            assertFalse(threadFactory.isPresent());
+            return;
+        }
+        assertTrue(threadFactory.isPresent());
+        Thread thread = threadFactory.get().newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException ignored) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Evaluates inline expressions such as {@code t_order_${order_id % 16}} without Groovy.
+ * Only string literals and integer arithmetic with {@code +}, {@code -}, {@code *}, {@code %} and parentheses can be compiled,
+ * and evaluation gives up on values or results whose Groovy semantics may differ, so that the caller can fall back to Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "super", "owner", "delegate", "thisObject", "true", "false", "null"));
+    
+    private final Segment[] segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, or empty if the expression needs Groovy to be evaluated
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Segment> result = new ArrayList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int beginIndex = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == beginIndex ? inlineExpression.length() : beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                result.add(new LiteralSegment(literal));
+            }
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf('}', beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new ExpressionParser(inlineExpression.substring(beginIndex + 2, endIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(new ExpressionSegment(node.get()));
+            index = endIndex + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(result.toArray(new Segment[0])));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('$' == each || '\\' == each || '"' == each || '\n' == each || '\r' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result, or empty if the arguments need Groovy to evaluate the expression
+     */
+    public Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            if (!each.appendTo(result, args)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private interface Segment {
+        
+        boolean appendTo(StringBuilder builder, Map<String, Comparable<?>> args);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralSegment implements Segment {
+        
+        private final String literal;
+        
+        @Override
+        public boolean appendTo(final StringBuilder builder, final Map<String, Comparable<?>> args) {
+            builder.append(literal);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionSegment implements Segment {
+        
+        private final Node node;
+        
+        @Override
+        public boolean appendTo(final StringBuilder builder, final Map<String, Comparable<?>> args) {
+            Object value = node.evaluate(args);
+            if (null == value) {
+                return false;
+            }
+            builder.append(value);
+            return true;
+        }
+    }
+    
+    private interface Node {
+        
+        /**
+         * Evaluate node.
+         *
+         * @param args arguments
+         * @return integer, long or string value, or null if Groovy is required
+         */
+        Object evaluate(Map<String, Comparable<?>> args);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NumberNode implements Node {
+        
+        private final Number value;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object result = args.get(name);
+            if (result instanceof Integer || result instanceof Long || result instanceof String) {
+                return result;
+            }
+            return result instanceof Short || result instanceof Byte ? ((Number) result).intValue() : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object leftValue = left.evaluate(args);
+            Object rightValue = right.evaluate(args);
+            if (!isIntegral(leftValue) || !isIntegral(rightValue)) {
+                return null;
+            }
+            try {
+                if (leftValue instanceof Long || rightValue instanceof Long) {
+                    return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+                }
+                return calculate((int) (Integer) leftValue, (int) (Integer) rightValue);
+            } catch (final ArithmeticException ignored) {
+                return null;
+            }
+        }
+        
+        private boolean isIntegral(final Object value) {
+            return value instanceof Integer || value instanceof Long;
+        }
+        
+        private Long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return Math.addExact(leftValue, rightValue);
+                case '-':
+                    return Math.subtractExact(leftValue, rightValue);
+                case '*':
+                    return Math.multiplyExact(leftValue, rightValue);
+                default:
+                    return leftValue < 0L || rightValue <= 0L ? null : leftValue % rightValue;
+            }
+        }
+        
+        private Integer calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return Math.addExact(leftValue, rightValue);
+                case '-':
+                    return Math.subtractExact(leftValue, rightValue);
+                case '*':
+                    return Math.multiplyExact(leftValue, rightValue);
+                default:
+                    return leftValue < 0 || rightValue <= 0 ? null : leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result) {
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                Node right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseOperand();
+            while (null != result) {
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                Node right = parseOperand();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private Node parseOperand() {
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                Node result = parseAdditive();
+                if (')' != peek()) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (isDigit(current)) {
+                return parseNumber();
+            }
+            return isIdentifierStart(current) ? parseVariable() : null;
+        }
+        
+        private Node parseNumber() {
+            int beginIndex = position;
+            while (position < expression.length() && isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String literal = expression.substring(beginIndex, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0) || position < expression.length() && isIdentifierPart(expression.charAt(position)) || literal.length() > 18) {
+                return null;
+            }
+            long value = Long.parseLong(literal);
+            return new NumberNode(value > Integer.MAX_VALUE ? (Number) value : (Number) (int) value);
+        }
+        
+        private Node parseVariable() {
+            int beginIndex = position;
+            while (position < expression.length() && isIdentifierPart(expression.charAt(position))) {
+                position++;
+            }
+            String name = expression.substring(beginIndex, position);
+            return RESERVED_WORDS.contains(name) ? null : new VariableNode(name);
+        }
+        
+        private char peek() {
+            skipWhitespace();
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && ' ' == expression.charAt(position)) {
+                position++;
+            }
+        }
+        
+        private boolean isDigit(final char ch) {
+            return ch >= '0' && ch <= '9';
+        }
+        
+        private boolean isIdentifierStart(final char ch) {
+            return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+        }
+        
+        private boolean isIdentifierPart(final char ch) {
+            return isIdentifierStart(ch) || isDigit(ch);
+        }
+    }
+}
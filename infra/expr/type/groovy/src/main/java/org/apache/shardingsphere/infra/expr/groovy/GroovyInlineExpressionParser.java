@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -51,9 +52,12 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private String inlineExpression;
     
+    private CompiledInlineExpression compiledInlineExpression;
+    
     @Override
     public void init(final Properties props) {
         inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
+        compiledInlineExpression = null == inlineExpression ? null : CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression)).orElse(null);
     }
     
     @Override
@@ -84,10 +88,17 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     /**
      * Turn inline expression into Groovy Closure. This function will replace all inline expression placeholders.
      * For compatibility reasons, it does not check whether the unit of the input parameter map is null.
+     * Simple expressions are evaluated by the compiled inline expression, and Groovy Closure is only used when it can not evaluate them.
      * @return The result of the Groovy Closure pattern.
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
+        if (null != compiledInlineExpression) {
+            Optional<String> result = compiledInlineExpression.evaluate(map);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
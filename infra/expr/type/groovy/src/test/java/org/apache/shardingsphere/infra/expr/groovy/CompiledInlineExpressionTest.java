@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertCompileAndEvaluateWithModulo() {
+        assertThat(evaluate("t_order_${order_id % 16}", Collections.singletonMap("order_id", 35)), is("t_order_3"));
+        assertThat(evaluate("t_order_${order_id % 16}", Collections.singletonMap("order_id", 8589934593L)), is("t_order_1"));
+        assertThat(evaluate("t_order_${order_id % 16}", Collections.singletonMap("order_id", (short) 17)), is("t_order_1"));
+    }
+    
+    @Test
+    void assertCompileAndEvaluateWithArithmetic() {
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("user_id", 7);
+        args.put("order_id", 10);
+        assertThat(evaluate("ds_${(user_id + order_id * 2) % 4 - 1}_t", args), is("ds_2_t"));
+    }
+    
+    @Test
+    void assertCompileAndEvaluateWithStringValue() {
+        assertThat(evaluate("t_order_${order_type}", Collections.singletonMap("order_type", "a")), is("t_order_a"));
+    }
+    
+    @Test
+    void assertCompileAndEvaluateWithoutPlaceHolder() {
+        assertThat(evaluate("t_order", Collections.emptyMap()), is("t_order"));
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 16}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.hashCode() % 16}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${-order_id}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${010}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${16L}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${it}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedArguments() {
+        CompiledInlineExpression expression = CompiledInlineExpression.compile("t_order_${order_id % 16}").orElseThrow(IllegalStateException::new);
+        assertFalse(expression.evaluate(Collections.emptyMap()).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", -1)).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", 1.5D)).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithOverflow() {
+        CompiledInlineExpression expression = CompiledInlineExpression.compile("t_order_${order_id * 2}").orElseThrow(IllegalStateException::new);
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", Integer.MAX_VALUE)).isPresent());
+        assertThat(expression.evaluate(Collections.singletonMap("order_id", (long) Integer.MAX_VALUE)), is(Optional.of("t_order_4294967294")));
+    }
+    
+    private String evaluate(final String inlineExpression, final Map<String, Comparable<?>> args) {
+        Optional<CompiledInlineExpression> compiledInlineExpression = CompiledInlineExpression.compile(inlineExpression);
+        assertTrue(compiledInlineExpression.isPresent());
+        Optional<String> result = compiledInlineExpression.get().evaluate(args);
+        assertTrue(result.isPresent());
+        return result.get();
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -123,6 +124,18 @@ class GroovyInlineExpressionParserTest {
         assertThat(getInlineExpressionParser("${1+2}").evaluateWithArgs(Collections.emptyMap()), is("3"));
     }
     
+    @Test
+    void assertEvaluateWithArgsAndCompiledExpression() {
+        assertThat(getInlineExpressionParser("t_order_${order_id % 16}").evaluateWithArgs(Collections.singletonMap("order_id", 35)), is("t_order_3"));
+        assertThat(getInlineExpressionParser("t_order_$->{order_id % 16}").evaluateWithArgs(Collections.singletonMap("order_id", 35L)), is("t_order_3"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgsAndGroovyFallback() {
+        assertThat(getInlineExpressionParser("t_order_${order_id % 16}").evaluateWithArgs(Collections.singletonMap("order_id", new BigInteger("35"))), is("t_order_3"));
+        assertThat(getInlineExpressionParser("t_order_${order_id.intdiv(16)}").evaluateWithArgs(Collections.singletonMap("order_id", 35)), is("t_order_2"));
+    }
+    
     @Test
     @SneakyThrows({ExecutionException.class, InterruptedException.class})
     void assertEvaluateForThreadSafety() {
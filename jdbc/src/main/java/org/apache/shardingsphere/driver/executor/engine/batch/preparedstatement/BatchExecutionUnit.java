@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -42,18 +43,41 @@ public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
+    private final int coalescedRows;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
+     * <p>Every actual call addBatch carries the rows of coalesced rows count JDBC API calls.</p>
+     *
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        int actualAddBatchTimes = jdbcAndActualAddBatchCallTimesMap.size() / coalescedRows;
+        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualAddBatchTimes);
+        actualCallAddBatchTimes = actualAddBatchTimes + 1;
+    }
+    
+    /**
+     * Get update count of one row from update count of the actual call addBatch which carries it.
+     *
+     * @param actualUpdateCount update count of actual call addBatch
+     * @return update count of one row
+     */
+    public int getRowUpdateCount(final int actualUpdateCount) {
+        if (1 == coalescedRows || actualUpdateCount <= 0) {
+            return actualUpdateCount;
+        }
+        return coalescedRows == actualUpdateCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Batch insert values coalescer.
+ *
+ * <p>Coalesces the rows of a batch execution unit whose rewritten SQL is a single-row insert with placeholder values only,
+ * such as {@code INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)}, into multi-row inserts of the same data source.
+ * Rows of one multi-row insert are limited by max rows and by the max parameter count of the storage database.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesCoalescer {
+    
+    private static final Pattern SINGLE_ROW_INSERT_VALUES_PATTERN = Pattern.compile("^(.*\\bVALUES)(\\s*)(\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))\\s*;?\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private final ShardingSphereDatabase database;
+    
+    private final int maxRows;
+    
+    /**
+     * Judge whether SQL statement is single-row insert which can be coalesced.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return can be coalesced or not
+     */
+    public static boolean isCoalescible(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext) || 1 != ((InsertStatementContext) sqlStatementContext).getValueListCount()) {
+            return false;
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        return !insertStatement.getInsertSelect().isPresent() && !insertStatement.getOnDuplicateKeyColumns().isPresent() && !insertStatement.getReturning().isPresent();
+    }
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit
+     * @return coalesced batch execution units, or the batch execution unit itself if it can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        int rowCount = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        Matcher matcher = SINGLE_ROW_INSERT_VALUES_PATTERN.matcher(executionUnit.getSqlUnit().getSql());
+        if (rowCount < 2 || batchExecutionUnit.getCoalescedRows() > 1 || !matcher.matches()) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        List<Object> params = executionUnit.getSqlUnit().getParameters();
+        int paramCountPerRow = getPlaceholderCount(matcher.group(3));
+        int rowsPerInsert = Math.min(rowCount, Math.min(maxRows, getMaxParameterCount(executionUnit.getDataSourceName()) / paramCountPerRow));
+        if (rowsPerInsert < 2 || params.size() != rowCount * paramCountPerRow) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        Iterator<Integer> jdbcAddBatchTimes = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet().iterator();
+        int fullRowCount = rowCount - rowCount % rowsPerInsert;
+        result.add(createBatchExecutionUnit(executionUnit, matcher, rowsPerInsert, params.subList(0, fullRowCount * paramCountPerRow), jdbcAddBatchTimes));
+        if (fullRowCount < rowCount) {
+            result.add(createBatchExecutionUnit(executionUnit, matcher, rowCount - fullRowCount, params.subList(fullRowCount * paramCountPerRow, params.size()), jdbcAddBatchTimes));
+        }
+        return result;
+    }
+    
+    private int getPlaceholderCount(final String values) {
+        int result = 0;
+        for (int i = 0; i < values.length(); i++) {
+            if ('?' == values.charAt(i)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private int getMaxParameterCount(final String dataSourceName) {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        DatabaseType databaseType = null == storageUnit ? database.getProtocolType() : storageUnit.getStorageType();
+        return new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData().getParameterOption().getMaxParameterCount();
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final ExecutionUnit executionUnit, final Matcher matcher, final int rowsPerInsert,
+                                                        final List<Object> params, final Iterator<Integer> jdbcAddBatchTimes) {
+        StringBuilder sql = new StringBuilder(matcher.group(1)).append(matcher.group(2)).append(matcher.group(3));
+        for (int i = 1; i < rowsPerInsert; i++) {
+            sql.append(", ").append(matcher.group(3));
+        }
+        SQLUnit sqlUnit = new SQLUnit(sql.toString(), new ArrayList<>(params), executionUnit.getSqlUnit().getTableRouteMappers());
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), rowsPerInsert);
+        int rowCount = params.size() / getPlaceholderCount(matcher.group(3));
+        for (int i = 0; i < rowCount; i++) {
+            result.mapAddBatchCount(jdbcAddBatchTimes.next());
+        }
+        return result;
+    }
+}
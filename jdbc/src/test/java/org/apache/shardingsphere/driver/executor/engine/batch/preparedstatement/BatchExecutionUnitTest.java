@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.List;
 
@@ -59,7 +60,16 @@ class BatchExecutionUnitTest {
         ExecutionUnit executionUnit = new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1)));
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), coalescedRows=1, "
                 + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
+    
+    @Test
+    void assertGetRowUpdateCount() {
+        BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))), 3);
+        assertThat(actual.getRowUpdateCount(3), is(1));
+        assertThat(actual.getRowUpdateCount(0), is(0));
+        assertThat(actual.getRowUpdateCount(2), is(Statement.SUCCESS_NO_INFO));
+        assertThat(actual.getRowUpdateCount(Statement.EXECUTE_FAILED), is(Statement.EXECUTE_FAILED));
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchInsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertIsCoalescible() {
+        assertTrue(BatchInsertValuesCoalescer.isCoalescible(mockInsertStatementContext(1)));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithMultipleValues() {
+        assertFalse(BatchInsertValuesCoalescer.isCoalescible(mockInsertStatementContext(2)));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithOnDuplicateKeyUpdate() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(1);
+        when(insertStatementContext.getSqlStatement().getOnDuplicateKeyColumns()).thenReturn(Optional.of(mock(OnDuplicateKeyColumnsSegment.class)));
+        assertFalse(BatchInsertValuesCoalescer.isCoalescible(insertStatementContext));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithoutInsert() {
+        assertFalse(BatchInsertValuesCoalescer.isCoalescible(mock(SQLStatementContext.class)));
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final int valueListCount) {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getValueListCount()).thenReturn(valueListCount);
+        return result;
+    }
+    
+    @Test
+    void assertCoalesce() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(mockDatabase(), 2).coalesce(createBatchExecutionUnit(SQL, 5));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit actualCoalesced = iterator.next();
+        assertThat(actualCoalesced.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actualCoalesced.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actualCoalesced.getCoalescedRows(), is(2));
+        assertThat(actualCoalesced.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 0, 1, 10), Arrays.<Object>asList(2, 20, 3, 30))));
+        assertThat(actualCoalesced.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(actualCoalesced.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        BatchExecutionUnit actualRemainder = iterator.next();
+        assertThat(actualRemainder.getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(actualRemainder.getCoalescedRows(), is(1));
+        assertThat(actualRemainder.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(4, 40))));
+        assertThat(actualRemainder.getJdbcAndActualAddBatchCallTimesMap().get(4), is(0));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxParameterCount() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(mockDatabase(), 5000).coalesce(createBatchExecutionUnit(SQL, 1500));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit actualCoalesced = iterator.next();
+        assertThat(actualCoalesced.getCoalescedRows(), is(1050));
+        assertThat(actualCoalesced.getParameterSets().size(), is(1));
+        assertThat(iterator.next().getCoalescedRows(), is(450));
+    }
+    
+    @Test
+    void assertNotCoalesceWithLiteralValues() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init')", 5);
+        assertThat(new BatchInsertValuesCoalescer(mockDatabase(), 2).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(Collections.emptyMap());
+        when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "H2"));
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rowCount) {
+        List<Object> params = new ArrayList<>(rowCount * 2);
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, params)));
+        for (int i = 0; i < rowCount; i++) {
+            params.add(i);
+            params.add(i * 10);
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -31,10 +33,12 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,8 +55,11 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -89,6 +96,9 @@ class BatchPreparedStatementExecutorTest {
     private ShardingSphereDatabase mockDatabase() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(result.getName()).thenReturn("foo_db");
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "H2"));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", storageUnit));
         RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getRuleMetaData()).thenReturn(ruleMetaData);
         return result;
@@ -156,6 +166,48 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        for (int i = 0; i < 10000; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_" + i % 2, new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        assertBatchExecutionUnit(actual.next(), 0);
+        assertBatchExecutionUnit(actual.next(), 1);
+    }
+    
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        String sql = "INSERT INTO t_order_0 (order_id) VALUES (?)";
+        for (int i = 0; i < 5; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(sql, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        executor.coalesceInsertValues(insertStatementContext, 2);
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        PreparedStatement coalescedPreparedStatement = getPreparedStatement();
+        when(coalescedPreparedStatement.executeBatch()).thenReturn(new int[]{2, 2});
+        PreparedStatement remainderPreparedStatement = getPreparedStatement();
+        when(remainderPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+        Iterator<BatchExecutionUnit> batchExecutionUnits = executor.getBatchExecutionUnits().iterator();
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(
+                new JDBCExecutionUnit(batchExecutionUnits.next().getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, coalescedPreparedStatement),
+                new JDBCExecutionUnit(batchExecutionUnits.next().getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, remainderPreparedStatement));
+        executor.init(new ExecutionGroupContext<>(new LinkedList<>(Collections.singleton(new ExecutionGroup<>(executionUnits))), new ExecutionGroupReportContext("foo_id", "foo_db")));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1, 1, 1}));
+    }
+    
+    private void assertBatchExecutionUnit(final BatchExecutionUnit actual, final int firstParameter) {
+        assertThat(actual.getExecutionUnit().getDataSourceName(), is("ds_" + firstParameter));
+        List<List<Object>> actualParameterSets = actual.getParameterSets();
+        assertThat(actualParameterSets.size(), is(5000));
+        assertThat(actualParameterSets.get(0), is(Collections.singletonList(firstParameter)));
+        assertThat(actualParameterSets.get(4999), is(Collections.singletonList(firstParameter + 9998)));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(firstParameter + 9998), is(4999));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -166,19 +218,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor,
                 new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext(processId, "logic_db")));
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>It supports one push thread and one fetch thread, which is how dumpers and importers use pipeline channels.
+ * Pushed record lists are handed over without copying, and fetch claims all published slots at once before releasing them to the producer.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final int SPIN_TIMES = 64;
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private final Object[] slots;
+    
+    private final int mask;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private volatile long producerSequence;
+    
+    private volatile long consumerSequence;
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final PipelineChannelAckCallback ackCallback) {
+        int capacity = calculateCapacity(bufferSize);
+        slots = new Object[capacity];
+        mask = capacity - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    private int calculateCapacity(final int bufferSize) {
+        int result = 1;
+        while (result < bufferSize) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    @Override
+    public void push(final List<Record> records) {
+        long sequence = producerSequence;
+        if (sequence - consumerSequence >= slots.length) {
+            awaitFreeSlot(sequence);
+        }
+        slots[(int) sequence & mask] = records;
+        producerSequence = sequence + 1L;
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitFreeSlot(final long sequence) {
+        int spinTimes = 0;
+        while (sequence - consumerSequence >= slots.length) {
+            if (spinTimes++ < SPIN_TIMES) {
+                Thread.yield();
+                continue;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitingProducer = Thread.currentThread();
+            if (sequence - consumerSequence >= slots.length) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducer = null;
+        }
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> first = Collections.emptyList();
+        List<Record> result = null;
+        int recordsCount = 0;
+        long deadlineNanos = 0L;
+        while (true) {
+            long sequence = consumerSequence;
+            long availableSequence = producerSequence;
+            while (sequence < availableSequence && recordsCount < batchSize) {
+                List<Record> records = takeSlot(sequence++);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                recordsCount += records.size();
+                if (first.isEmpty()) {
+                    first = records;
+                } else {
+                    if (null == result) {
+                        result = new ArrayList<>(Math.max(batchSize, recordsCount));
+                        result.addAll(first);
+                    }
+                    result.addAll(records);
+                }
+            }
+            releaseSlots(sequence);
+            if (recordsCount >= batchSize) {
+                break;
+            }
+            long nowNanos = System.nanoTime();
+            if (0L == deadlineNanos) {
+                deadlineNanos = nowNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            }
+            if (nowNanos - deadlineNanos >= 0L || !awaitPublishedSlot(sequence, deadlineNanos)) {
+                break;
+            }
+        }
+        return null == result ? first : result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Record> takeSlot(final long sequence) {
+        int index = (int) sequence & mask;
+        List<Record> result = (List<Record>) slots[index];
+        slots[index] = null;
+        return result;
+    }
+    
+    private void releaseSlots(final long sequence) {
+        if (sequence == consumerSequence) {
+            return;
+        }
+        consumerSequence = sequence;
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private boolean awaitPublishedSlot(final long sequence, final long deadlineNanos) {
+        int spinTimes = 0;
+        while (producerSequence <= sequence) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                return false;
+            }
+            if (spinTimes++ < SPIN_TIMES) {
+                Thread.yield();
+                continue;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitingConsumer = Thread.currentThread();
+            if (producerSequence <= sequence) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            waitingConsumer = null;
+        }
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> peek() {
+        long sequence = consumerSequence;
+        return sequence < producerSequence ? (List<Record>) slots[(int) sequence & mask] : Collections.emptyList();
+    }
+    
+    @Override
+    public List<Record> poll() {
+        long sequence = consumerSequence;
+        if (sequence >= producerSequence) {
+            return Collections.emptyList();
+        }
+        List<Record> result = takeSlot(sequence);
+        releaseSlots(sequence + 1L);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get buffer capacity.
+     *
+     * @return count of record lists which could be buffered
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+}
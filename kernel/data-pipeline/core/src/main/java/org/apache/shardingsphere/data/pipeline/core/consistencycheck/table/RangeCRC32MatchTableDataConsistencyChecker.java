@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Properties;
+
+/**
+ * Range CRC32 match table data consistency checker.
+ */
+@SPIDescription("Match CRC32 of unique key ranges.")
+public final class RangeCRC32MatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String RANGE_COUNT_KEY = "range-count";
+    
+    private static final String MIN_RANGE_SIZE_KEY = "min-range-size";
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_RANGE_COUNT = 16;
+    
+    private static final int DEFAULT_MIN_RANGE_SIZE = 1000;
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    
+    private int rangeCount;
+    
+    private int minRangeSize;
+    
+    private int concurrency;
+    
+    @Override
+    public void init(final Properties props) {
+        rangeCount = getPositiveInteger(props, RANGE_COUNT_KEY, DEFAULT_RANGE_COUNT);
+        if (1 == rangeCount) {
+            throw new PipelineInvalidParameterException("Invalid 'range-count': 1, it must be greater than 1");
+        }
+        minRangeSize = getPositiveInteger(props, MIN_RANGE_SIZE_KEY, DEFAULT_MIN_RANGE_SIZE);
+        concurrency = getPositiveInteger(props, CONCURRENCY_KEY, DEFAULT_CONCURRENCY);
+    }
+    
+    private int getPositiveInteger(final Properties props, final String key, final int defaultValue) {
+        String text = props.getProperty(key);
+        if (Strings.isNullOrEmpty(text)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(text);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, text));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %d", key, result));
+        }
+        return result;
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new RangeCRC32MatchTableInventoryChecker(param, rangeCount, minRangeSize, concurrency);
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        Collection<DatabaseType> result = new LinkedList<>();
+        DatabaseType supportedDatabaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        result.add(supportedDatabaseType);
+        result.addAll(new DatabaseTypeRegistry(supportedDatabaseType).getAllBranchDatabaseTypes());
+        return result;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "RANGE_CRC32_MATCH";
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckIgnoredType;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RangeCRC32SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Range CRC32 match table inventory checker.
+ *
+ * <p>Splits the table by integer unique key into ranges, calculates CRC32 of ranges on source and target in parallel,
+ * and splits unmatched ranges again until they are not larger than min range size, like walking down a Merkle tree.
+ * Tables whose first unique key is not integer are checked as a whole by CRC32 match.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class RangeCRC32MatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private static final int MAX_DRILL_DOWN_RANGES = 1024;
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int rangeCount;
+    
+    private final long minRangeSize;
+    
+    private final int concurrency;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = ConcurrentHashMap.newKeySet();
+    
+    @Getter
+    private final Collection<Range<Long>> unmatchedRanges = new LinkedList<>();
+    
+    private volatile TableInventoryChecker wholeTableChecker;
+    
+    @Override
+    public Optional<TableDataConsistencyCheckResult> preCheck() {
+        if (param.getUniqueKeys().isEmpty()) {
+            return Optional.of(new TableDataConsistencyCheckResult(TableDataConsistencyCheckIgnoredType.NO_UNIQUE_KEY));
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        if (!new DatabaseTypeRegistry(param.getSourceDataSource().getDatabaseType()).getDialectDatabaseMetaData().getDataTypeOption().isIntegerDataType(param.getUniqueKeys().get(0).getDataType())) {
+            wholeTableChecker = new CRC32MatchTableDataConsistencyChecker().buildTableInventoryChecker(param);
+            return wholeTableChecker.checkSingleTableInventoryData();
+        }
+        ExecutorService executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build(param.getJobId() + "-range-crc32-check-%d"));
+        try {
+            Future<Range<Long>> sourceRange = executor.submit(() -> getUniqueKeyValuesRange(param.getSourceDataSource(), param.getSourceTable()));
+            Future<Range<Long>> targetRange = executor.submit(() -> getUniqueKeyValuesRange(param.getTargetDataSource(), param.getTargetTable()));
+            Range<Long> uniqueKeyValuesRange = union(PipelineTaskUtils.waitFuture(sourceRange), PipelineTaskUtils.waitFuture(targetRange));
+            if (null != uniqueKeyValuesRange) {
+                checkRanges(split(uniqueKeyValuesRange), executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        boolean matched = unmatchedRanges.isEmpty() && !canceling.get();
+        if (!matched) {
+            log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, unmatchedRanges={}", param.getJobId(), param.getSourceTable(), param.getTargetTable(), unmatchedRanges);
+        }
+        TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
+        checkRangePosition.setFinished(true);
+        checkRangePosition.setMatched(matched);
+        return new TableDataConsistencyCheckResult(matched);
+    }
+    
+    private Range<Long> getUniqueKeyValuesRange(final PipelineDataSource dataSource, final QualifiedTable table) {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), param.getUniqueKeys().get(0).getName());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            long min = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : Range.of(min, resultSet.getLong(2));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        }
+    }
+    
+    private Range<Long> union(final Range<Long> sourceRange, final Range<Long> targetRange) {
+        if (null == sourceRange || null == targetRange) {
+            return null == sourceRange ? targetRange : sourceRange;
+        }
+        return Range.of(Math.min(sourceRange.getMinimum(), targetRange.getMinimum()), Math.max(sourceRange.getMaximum(), targetRange.getMaximum()));
+    }
+    
+    private void checkRanges(final List<Range<Long>> topRanges, final ExecutorService executor) {
+        List<Range<Long>> ranges = topRanges;
+        boolean topLevel = true;
+        while (!ranges.isEmpty() && !canceling.get()) {
+            List<Future<SingleTableInventoryCalculatedResult>> sourceResults = new ArrayList<>(ranges.size());
+            List<Future<SingleTableInventoryCalculatedResult>> targetResults = new ArrayList<>(ranges.size());
+            for (Range<Long> each : ranges) {
+                if (null != param.getReadRateLimitAlgorithm()) {
+                    param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+                }
+                sourceResults.add(executor.submit(() -> calculate(param.getSourceDataSource(), param.getSourceTable(), each)));
+                targetResults.add(executor.submit(() -> calculate(param.getTargetDataSource(), param.getTargetTable(), each)));
+            }
+            List<Range<Long>> nextRanges = new LinkedList<>();
+            List<Range<Long>> splitRanges = new LinkedList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                SingleTableInventoryCalculatedResult sourceResult = PipelineTaskUtils.waitFuture(sourceResults.get(i));
+                SingleTableInventoryCalculatedResult targetResult = PipelineTaskUtils.waitFuture(targetResults.get(i));
+                if (topLevel) {
+                    param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceResult.getRecordsCount()));
+                }
+                if (Objects.equals(sourceResult, targetResult)) {
+                    continue;
+                }
+                Range<Long> range = ranges.get(i);
+                if (isLeafRange(range) || 0 == sourceResult.getRecordsCount() || 0 == targetResult.getRecordsCount()) {
+                    unmatchedRanges.add(range);
+                } else {
+                    splitRanges.add(range);
+                    nextRanges.addAll(split(range));
+                }
+            }
+            if (nextRanges.size() > MAX_DRILL_DOWN_RANGES) {
+                unmatchedRanges.addAll(splitRanges);
+                return;
+            }
+            ranges = nextRanges;
+            topLevel = false;
+        }
+    }
+    
+    private boolean isLeafRange(final Range<Long> range) {
+        return range.getMaximum() - range.getMinimum() < minRangeSize;
+    }
+    
+    private List<Range<Long>> split(final Range<Long> range) {
+        long span = range.getMaximum() - range.getMinimum();
+        if (span < 0L) {
+            return Collections.singletonList(range);
+        }
+        long step = span / rangeCount + 1L;
+        List<Range<Long>> result = new ArrayList<>(rangeCount);
+        long lower = range.getMinimum();
+        while (true) {
+            if (range.getMaximum() - lower < step) {
+                result.add(Range.of(lower, range.getMaximum()));
+                return result;
+            }
+            result.add(Range.of(lower, lower + step - 1L));
+            lower += step;
+        }
+    }
+    
+    private SingleTableInventoryCalculatedResult calculate(final PipelineDataSource dataSource, final QualifiedTable table, final Range<Long> range) {
+        SingleTableInventoryCalculateParameter calculateParam = new SingleTableInventoryCalculateParameter(dataSource, table,
+                param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY, param.getQueryCondition());
+        calculateParam.setQueryRange(new QueryRange(range.getMinimum(), true, range.getMaximum()));
+        SingleTableInventoryCalculator calculator = new RangeCRC32SingleTableInventoryCalculator();
+        runningCalculators.add(calculator);
+        try {
+            return calculator.calculate(calculateParam).iterator().next();
+        } finally {
+            runningCalculators.remove(calculator);
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+        Optional.ofNullable(wholeTableChecker).ifPresent(TableInventoryChecker::cancel);
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+}
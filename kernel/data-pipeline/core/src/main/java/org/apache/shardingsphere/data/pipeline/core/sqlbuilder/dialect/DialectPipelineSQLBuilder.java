@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -82,6 +83,18 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build CRC32 SQL of unique key range.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return built SQL, the lower and upper values of unique key range are parameters
+     */
+    default Optional<String> buildUniqueKeyRangeCRC32SQL(final String qualifiedTableName, final List<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -128,4 +128,17 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build CRC32 SQL of unique key range.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    public Optional<String> buildUniqueKeyRangeCRC32SQL(final QualifiedTable qualifiedTable, final List<String> columnNames, final String uniqueKey) {
+        return dialectSQLBuilder.buildUniqueKeyRangeCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(qualifiedTable),
+                columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.toList()), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey));
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchSingleBatchWithoutCopy() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(2);
+        channel.push(records);
+        assertThat(channel.fetch(2, 0L), sameInstance(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertFetchMultipleBatches() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> firstRecords = createRecords(1);
+        List<Record> secondRecords = createRecords(2);
+        channel.push(firstRecords);
+        channel.push(Collections.emptyList());
+        channel.push(secondRecords);
+        List<Record> remainingRecords = createRecords(1);
+        channel.push(remainingRecords);
+        List<Record> expected = new ArrayList<>(firstRecords);
+        expected.addAll(secondRecords);
+        assertThat(channel.fetch(3, 0L), is(expected));
+        assertThat(channel.peek(), sameInstance(remainingRecords));
+    }
+    
+    @Test
+    void assertFetchWithTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.fetch(1, 10L), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertFetchWhenInterrupted() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> channel.fetch(1, 60000L));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+    
+    @Test
+    void assertPushWhenInterrupted() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> channel.push(createRecords(1)));
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertThat(channel.poll(), sameInstance(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertPushAndFetchConcurrently() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<List<Record>> pushedRecords = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            pushedRecords.add(createRecords(1));
+        }
+        Thread producer = new Thread(() -> pushedRecords.forEach(channel::push));
+        producer.start();
+        List<Record> actual = new ArrayList<>(100);
+        while (actual.size() < 100) {
+            actual.addAll(channel.fetch(10, 100L));
+        }
+        producer.join();
+        List<Record> expected = new ArrayList<>(100);
+        pushedRecords.forEach(expected::addAll);
+        assertThat(actual, is(expected));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.peek(), sameInstance(records));
+        assertThat(channel.poll(), sameInstance(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = createRecords(1);
+        new RingBufferPipelineChannel(2, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    private List<Record> createRecords(final int count) {
+        Record[] result = new Record[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new PlaceholderRecord(new IngestFinishedPosition());
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RangeCRC32MatchTableDataConsistencyCheckerTest {
+    
+    @Test
+    void assertInitWithDefaultProperties() throws ReflectiveOperationException {
+        RangeCRC32MatchTableDataConsistencyChecker checker = new RangeCRC32MatchTableDataConsistencyChecker();
+        checker.init(new Properties());
+        assertThat(getField(checker, "rangeCount"), is("16"));
+        assertThat(getField(checker, "minRangeSize"), is("1000"));
+        assertThat(getField(checker, "concurrency"), is("4"));
+    }
+    
+    @Test
+    void assertInitWithProperties() throws ReflectiveOperationException {
+        RangeCRC32MatchTableDataConsistencyChecker checker = new RangeCRC32MatchTableDataConsistencyChecker();
+        checker.init(PropertiesBuilder.build(new Property("range-count", "8"), new Property("min-range-size", "100"), new Property("concurrency", "2")));
+        assertThat(getField(checker, "rangeCount"), is("8"));
+        assertThat(getField(checker, "minRangeSize"), is("100"));
+        assertThat(getField(checker, "concurrency"), is("2"));
+    }
+    
+    @Test
+    void assertInitFailure() {
+        for (String each : Arrays.asList("xyz", "0", "-1")) {
+            assertThrows(PipelineInvalidParameterException.class, () -> new RangeCRC32MatchTableDataConsistencyChecker().init(PropertiesBuilder.build(new Property("concurrency", each))));
+        }
+        assertThrows(PipelineInvalidParameterException.class, () -> new RangeCRC32MatchTableDataConsistencyChecker().init(PropertiesBuilder.build(new Property("range-count", "1"))));
+    }
+    
+    private String getField(final RangeCRC32MatchTableDataConsistencyChecker checker, final String fieldName) throws ReflectiveOperationException {
+        return Plugins.getMemberAccessor().get(RangeCRC32MatchTableDataConsistencyChecker.class.getDeclaredField(fieldName), checker).toString();
+    }
+}
@@ -32,6 +32,7 @@ class TableDataConsistencyCheckerFactoryTest {
         assertThat(TableDataConsistencyCheckerFactory.newInstance(null, new Properties()), isA(DataMatchTableDataConsistencyChecker.class));
         assertThat(TableDataConsistencyCheckerFactory.newInstance("DATA_MATCH", new Properties()), isA(DataMatchTableDataConsistencyChecker.class));
         assertThat(TableDataConsistencyCheckerFactory.newInstance("CRC32_MATCH", new Properties()), isA(CRC32MatchTableDataConsistencyChecker.class));
+        assertThat(TableDataConsistencyCheckerFactory.newInstance("RANGE_CRC32_MATCH", new Properties()), isA(RangeCRC32MatchTableDataConsistencyChecker.class));
     }
     
     @Test
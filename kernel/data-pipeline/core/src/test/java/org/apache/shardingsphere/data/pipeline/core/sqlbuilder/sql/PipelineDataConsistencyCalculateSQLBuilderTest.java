@@ -95,4 +95,10 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildUniqueKeyRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyRangeCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), Arrays.asList("foo_col", "bar_col"), "order_id");
+        assertThat(actual, is(Optional.of("SELECT foo_col,bar_col FROM foo_tbl WHERE order_id>=? AND order_id<=?")));
+    }
 }
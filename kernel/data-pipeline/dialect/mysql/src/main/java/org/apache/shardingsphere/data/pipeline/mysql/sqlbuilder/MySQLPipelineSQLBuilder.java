@@ -30,7 +30,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -64,6 +66,12 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyRangeCRC32SQL(final String qualifiedTableName, final List<String> columnNames, final String uniqueKey) {
+        String checksums = columnNames.stream().map(each -> String.format("BIT_XOR(CAST(CRC32(%s) AS UNSIGNED))", each)).collect(Collectors.joining(", "));
+        return Optional.of(String.format("SELECT %s, COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?", checksums, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -83,6 +84,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildUniqueKeyRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyRangeCRC32SQL("foo_tbl", Arrays.asList("id", "name"), "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)), BIT_XOR(CAST(CRC32(name) AS UNSIGNED)), COUNT(1) AS cnt FROM foo_tbl WHERE id>=? AND id<=?"));
+    }
+    
     @Test
     void assertBuildCreateTableSQLs() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.infra.props.TypedPropertyKey;
 
 /**
  * Property key of redis timestamp oracle provider.
+ *
+ * <p>CSN ranges leased with {@code leaseMaxSize} greater than 1 are reserved per compute node and interleave between compute nodes,
+ * so CSNs are only monotonic within one compute node. Keep the default 1 when more than one compute node is running.</p>
  */
 @RequiredArgsConstructor
 @Getter
@@ -38,7 +41,11 @@ public enum RedisTSOPropertyKey implements TypedPropertyKey {
     
     MAX_IDLE("maxIdle", "8", int.class),
     
-    MAX_TOTAL("maxTotal", "18", int.class);
+    MAX_TOTAL("maxTotal", "18", int.class),
+    
+    LEASE_MAX_SIZE("leaseMaxSize", "1", long.class),
+    
+    LEASE_TARGET_DURATION_MILLISECONDS("leaseTargetDurationMilliseconds", "1000", long.class);
     
     private final String key;
     
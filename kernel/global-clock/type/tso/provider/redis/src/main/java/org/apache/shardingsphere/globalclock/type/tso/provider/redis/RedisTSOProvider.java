@@ -19,6 +19,7 @@ package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.globalclock.type.tso.provider.TSOProvider;
+import org.apache.shardingsphere.globalclock.type.tso.provider.TSORangeLease;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
@@ -41,12 +42,15 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private JedisPool jedisPool;
     
+    private TSORangeLease lease;
+    
     @Override
     public void init(final Properties props) {
         if (initialized.compareAndSet(false, true)) {
             createJedisPool(props);
             checkJedisPool();
             initCSN();
+            createLease(props);
         }
     }
     
@@ -77,6 +81,19 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    private void createLease(final Properties props) {
+        long leaseMaxSize = Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_MAX_SIZE));
+        if (leaseMaxSize > 1L) {
+            lease = new TSORangeLease(this::allocateCSNRange, leaseMaxSize, Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_TARGET_DURATION_MILLISECONDS)));
+        }
+    }
+    
+    private long allocateCSNRange(final long size) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return jedis.incrBy(CSN_KEY, size);
+        }
+    }
+    
     @Override
     public long getCurrentTimestamp() {
         try (Jedis jedis = jedisPool.getResource()) {
@@ -87,6 +104,9 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getNextTimestamp() {
+        if (null != lease) {
+            return lease.getNextTimestamp();
+        }
         try (Jedis jedis = jedisPool.getResource()) {
             return jedis.incr(CSN_KEY);
             // TODO use redis lock to instead of reg center's lock. unlock here #35041
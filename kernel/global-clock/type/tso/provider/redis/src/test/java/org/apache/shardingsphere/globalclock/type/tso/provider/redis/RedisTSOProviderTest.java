@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
+
+import org.apache.shardingsphere.globalclock.type.tso.provider.redis.fixture.RedisProtocolServerFixture;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class RedisTSOProviderTest {
+    
+    private static final int TRANSACTION_COUNT = 1000;
+    
+    private RedisProtocolServerFixture server;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new RedisProtocolServerFixture();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+    
+    @Test
+    void assertGetNextTimestampWithoutLease() {
+        RedisTSOProvider provider = createProvider(new Property("port", String.valueOf(server.getPort())));
+        assertThat(provider.getCurrentTimestamp(), is((long) Integer.MAX_VALUE));
+        assertThat(provider.getNextTimestamp(), is(Integer.MAX_VALUE + 1L));
+        assertThat(provider.getCurrentTimestamp(), is(Integer.MAX_VALUE + 1L));
+        long initCommandCount = server.getCommandCount().get();
+        commitTransactions(provider);
+        assertThat(server.getCommandCount().get() - initCommandCount, is(3L * TRANSACTION_COUNT));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLease() {
+        RedisTSOProvider provider = createProvider(new Property("port", String.valueOf(server.getPort())), new Property("leaseMaxSize", "256"),
+                new Property("leaseTargetDurationMilliseconds", "60000"));
+        assertThat(provider.getNextTimestamp(), is(Integer.MAX_VALUE + 1L));
+        long initCommandCount = server.getCommandCount().get();
+        long previous = Integer.MAX_VALUE + 1L;
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            assertThat(provider.getNextTimestamp(), is(++previous));
+        }
+        assertThat(server.getCommandCount().get() - initCommandCount, lessThan(TRANSACTION_COUNT / 50L));
+    }
+    
+    @Test
+    void assertGetCurrentTimestampWithLease() {
+        RedisTSOProvider provider = createProvider(new Property("port", String.valueOf(server.getPort())), new Property("leaseMaxSize", "256"),
+                new Property("leaseTargetDurationMilliseconds", "60000"));
+        RedisTSOProvider otherProvider = createProvider(new Property("port", String.valueOf(server.getPort())), new Property("leaseMaxSize", "256"),
+                new Property("leaseTargetDurationMilliseconds", "60000"));
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            long nextTimestamp = provider.getNextTimestamp();
+            assertThat(provider.getCurrentTimestamp(), greaterThanOrEqualTo(nextTimestamp));
+            assertThat(otherProvider.getCurrentTimestamp(), greaterThanOrEqualTo(nextTimestamp));
+        }
+    }
+    
+    private RedisTSOProvider createProvider(final Property... props) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        result.init(PropertiesBuilder.build(props));
+        return result;
+    }
+    
+    private void commitTransactions(final RedisTSOProvider provider) {
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            provider.getCurrentTimestamp();
+            provider.getCurrentTimestamp();
+            provider.getNextTimestamp();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.redis.fixture;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process server speaking the subset of Redis protocol used by redis TSO provider.
+ */
+public final class RedisProtocolServerFixture implements AutoCloseable {
+    
+    private final ServerSocket serverSocket;
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final AtomicLong commandCount = new AtomicLong();
+    
+    public RedisProtocolServerFixture() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executorService.execute(this::accept);
+    }
+    
+    /**
+     * Get port.
+     *
+     * @return port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+    
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executorService.execute(() -> serve(socket));
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+    
+    private void serve(final Socket socket) {
+        try (
+                Socket ignored = socket;
+                InputStream input = new BufferedInputStream(socket.getInputStream());
+                OutputStream output = new BufferedOutputStream(socket.getOutputStream())) {
+            List<String> command = readCommand(input);
+            while (!command.isEmpty()) {
+                output.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                output.flush();
+                command = readCommand(input);
+            }
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private List<String> readCommand(final InputStream input) throws IOException {
+        String header = readLine(input);
+        List<String> result = new ArrayList<>();
+        if (null == header) {
+            return result;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[Integer.parseInt(readLine(input).substring(1))];
+            int offset = 0;
+            while (offset < bytes.length) {
+                offset += input.read(bytes, offset, bytes.length - offset);
+            }
+            readLine(input);
+            result.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
+    private String readLine(final InputStream input) throws IOException {
+        StringBuilder result = new StringBuilder();
+        int each = input.read();
+        while ('\r' != each) {
+            if (-1 == each) {
+                return null;
+            }
+            result.append((char) each);
+            each = input.read();
+        }
+        input.read();
+        return result.toString();
+    }
+    
+    private synchronized String execute(final List<String> command) {
+        commandCount.incrementAndGet();
+        switch (command.get(0).toUpperCase()) {
+            case "PING":
+                return "+PONG\r\n";
+            case "GET":
+                String value = values.get(command.get(1));
+                return null == value ? "$-1\r\n" : String.format("$%d\r\n%s\r\n", value.length(), value);
+            case "SET":
+                values.put(command.get(1), command.get(2));
+                return "+OK\r\n";
+            case "INCR":
+                return increase(command.get(1), 1L);
+            case "INCRBY":
+                return increase(command.get(1), Long.parseLong(command.get(2)));
+            default:
+                return String.format("-ERR unknown command '%s'\r\n", command.get(0));
+        }
+    }
+    
+    private String increase(final String key, final long delta) {
+        long result = Long.parseLong(values.getOrDefault(key, "0")) + delta;
+        values.put(key, String.valueOf(result));
+        return String.format(":%d\r\n", result);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TSO range lease.
+ *
+ * <p>Reserves a range of timestamps from the allocator with one remote call and hands them out locally.
+ * The range size doubles when a range is used up faster than half of the target duration, and halves when it lasts longer than twice the target duration.
+ * The next range is reserved in background once a quarter of the current range is left.
+ * Only next timestamps are leased, current timestamp has to be read from the allocator, which is never behind any timestamp handed out by any lease.</p>
+ */
+public final class TSORangeLease {
+    
+    private static final ExecutorService RENEW_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("TSO-Lease-Renew-%d"));
+    
+    private final TSORangeAllocator allocator;
+    
+    private final long maxSize;
+    
+    private final long targetDurationNanos;
+    
+    private final AtomicLong allocatedCount = new AtomicLong();
+    
+    private volatile Range current;
+    
+    private CompletableFuture<Range> renewing;
+    
+    private long size = 1L;
+    
+    public TSORangeLease(final TSORangeAllocator allocator, final long maxSize, final long targetDurationMillis) {
+        this.allocator = allocator;
+        this.maxSize = Math.max(maxSize, 1L);
+        targetDurationNanos = targetDurationMillis * 1000000L;
+        current = allocate(size);
+    }
+    
+    /**
+     * Get next timestamp.
+     *
+     * @return next timestamp
+     */
+    public long getNextTimestamp() {
+        while (true) {
+            Range range = current;
+            long result = range.next.getAndIncrement();
+            if (result <= range.end) {
+                if (range.end - result == range.size / 4L) {
+                    renewInBackground(range);
+                }
+                return result;
+            }
+            renew(range);
+        }
+    }
+    
+    /**
+     * Get allocated count.
+     *
+     * @return count of ranges reserved from the allocator
+     */
+    public long getAllocatedCount() {
+        return allocatedCount.get();
+    }
+    
+    private synchronized void renewInBackground(final Range exhausting) {
+        if (current == exhausting && null == renewing) {
+            long renewSize = adaptSize(exhausting);
+            renewing = CompletableFuture.supplyAsync(() -> allocate(renewSize), RENEW_EXECUTOR);
+        }
+    }
+    
+    private synchronized void renew(final Range exhausted) {
+        if (current != exhausted) {
+            return;
+        }
+        if (null == renewing) {
+            current = allocate(adaptSize(exhausted));
+            return;
+        }
+        try {
+            current = renewing.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            current = allocate(adaptSize(exhausted));
+        } finally {
+            renewing = null;
+        }
+    }
+    
+    private long adaptSize(final Range range) {
+        long elapsedNanos = System.nanoTime() - range.allocatedNanos;
+        if (elapsedNanos < targetDurationNanos / 2L) {
+            size = Math.min(size * 2L, maxSize);
+        } else if (elapsedNanos > targetDurationNanos * 2L) {
+            size = Math.max(size / 2L, 1L);
+        }
+        return size;
+    }
+    
+    private Range allocate(final long size) {
+        long end = allocator.allocate(size);
+        allocatedCount.incrementAndGet();
+        return new Range(end - size + 1L, end, size, System.nanoTime());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Range {
+        
+        private final AtomicLong next;
+        
+        private final long end;
+        
+        private final long size;
+        
+        private final long allocatedNanos;
+        
+        Range(final long start, final long end, final long size, final long allocatedNanos) {
+            this(new AtomicLong(start), end, size, allocatedNanos);
+        }
+    }
+}
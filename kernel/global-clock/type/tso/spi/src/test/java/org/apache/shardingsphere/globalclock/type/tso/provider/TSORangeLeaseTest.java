@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TSORangeLeaseTest {
+    
+    @Test
+    void assertGetNextTimestamp() {
+        AtomicLong remoteCSN = new AtomicLong(100L);
+        TSORangeLease lease = new TSORangeLease(remoteCSN::addAndGet, 8L, 60000L);
+        for (long i = 101L; i <= 1000L; i++) {
+            assertThat(lease.getNextTimestamp(), is(i));
+            assertThat(remoteCSN.get(), greaterThanOrEqualTo(i));
+        }
+        assertThat(lease.getAllocatedCount(), lessThan(150L));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithSharedAllocator() {
+        AtomicLong remoteCSN = new AtomicLong();
+        TSORangeLease lease = new TSORangeLease(remoteCSN::addAndGet, 16L, 60000L);
+        long previous = 0L;
+        for (int i = 0; i < 1000; i++) {
+            remoteCSN.incrementAndGet();
+            long actual = lease.getNextTimestamp();
+            assertTrue(actual > previous);
+            previous = actual;
+        }
+        assertThat(previous, lessThan(remoteCSN.get() + 1L));
+    }
+    
+    @Test
+    void assertGetNextTimestampConcurrently() throws InterruptedException {
+        AtomicLong remoteCSN = new AtomicLong();
+        AtomicLong remoteCalls = new AtomicLong();
+        TSORangeLease lease = new TSORangeLease(size -> {
+            remoteCalls.incrementAndGet();
+            return remoteCSN.addAndGet(size);
+        }, 1024L, 60000L);
+        Set<Long> actual = Collections.synchronizedSet(new HashSet<>(40000, 1F));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    actual.add(lease.getNextTimestamp());
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1L, TimeUnit.MINUTES));
+        assertThat(actual.size(), is(40000));
+        assertThat(remoteCalls.get(), is(lease.getAllocatedCount()));
+        assertThat(remoteCalls.get(), lessThan(100L));
+    }
+}
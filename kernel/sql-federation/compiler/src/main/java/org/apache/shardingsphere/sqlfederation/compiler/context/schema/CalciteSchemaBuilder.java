@@ -28,6 +28,7 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationDatabase;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationSchema;
@@ -50,13 +51,13 @@ public final class CalciteSchemaBuilder {
      * @return calcite schema
      */
     public static CalciteSchema build(final Collection<ShardingSphereDatabase> databases) {
-        CalciteSchema result = CalciteSchema.createRootSchema(true);
+        CalciteSchema result = CalciteSchema.createRootSchema(true, false);
         for (ShardingSphereDatabase each : databases) {
             if (each.getAllSchemas().isEmpty()) {
                 continue;
             }
             Optional<String> defaultSchema = new DatabaseTypeRegistry(each.getProtocolType()).getDialectDatabaseMetaData().getSchemaOption().getDefaultSchema();
-            AbstractSchema schema = defaultSchema.isPresent() ? buildDatabase(each) : buildSchema(each.getAllSchemas().iterator().next(), each.getProtocolType());
+            AbstractSchema schema = defaultSchema.isPresent() ? buildDatabase(each) : buildSchema(each.getAllSchemas().iterator().next(), each.getRuleMetaData(), each.getProtocolType());
             result.add(each.getName(), schema);
         }
         registerFunction(databases, result);
@@ -67,8 +68,8 @@ public final class CalciteSchemaBuilder {
         return new SQLFederationDatabase(database, database.getProtocolType());
     }
     
-    private static AbstractSchema buildSchema(final ShardingSphereSchema schema, final DatabaseType protocolType) {
-        return new SQLFederationSchema(schema.getName(), schema, protocolType);
+    private static AbstractSchema buildSchema(final ShardingSphereSchema schema, final RuleMetaData ruleMetaData, final DatabaseType protocolType) {
+        return new SQLFederationSchema(schema.getName(), schema, ruleMetaData, protocolType);
     }
     
     private static void registerFunction(final Collection<ShardingSphereDatabase> databases, final CalciteSchema calciteSchema) {
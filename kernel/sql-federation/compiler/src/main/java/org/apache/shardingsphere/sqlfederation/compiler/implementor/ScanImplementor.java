@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sqlfederation.compiler.implementor;
 
 import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 
 /**
@@ -33,4 +35,15 @@ public interface ScanImplementor {
      * @return query results
      */
     Enumerable<Object> implement(ShardingSphereTable table, ScanImplementorContext scanContext);
+    
+    /**
+     * Get statistic.
+     *
+     * @param schemaName schema name
+     * @param table table meta data
+     * @return statistic of table
+     */
+    default Statistic getStatistic(final String schemaName, final ShardingSphereTable table) {
+        return Statistics.UNKNOWN;
+    }
 }
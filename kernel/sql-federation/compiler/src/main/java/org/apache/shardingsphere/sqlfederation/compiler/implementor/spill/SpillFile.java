@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.Getter;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file, which holds rows written by {@link SpillRowCodec} in a local temporary file.
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-federation-spill-";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path path;
+    
+    private DataOutputStream output;
+    
+    @Getter
+    private long rowCount;
+    
+    @Getter
+    private long fileBytes;
+    
+    private boolean deleted;
+    
+    public SpillFile() throws IOException {
+        path = Files.createTempFile(FILE_PREFIX, ".tmp");
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object row) throws IOException {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @return written bytes
+     * @throws IOException IO exception
+     */
+    public long finish() throws IOException {
+        if (null != output) {
+            output.close();
+            output = null;
+            fileBytes = Files.size(path);
+        }
+        return fileBytes;
+    }
+    
+    /**
+     * Open reader, rows can only be read after writing finished.
+     *
+     * @return enumerator of rows
+     * @throws IOException IO exception
+     */
+    public Enumerator<Object> openReader() throws IOException {
+        return new SpillFileEnumerator(new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)), rowCount);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (deleted) {
+            return;
+        }
+        deleted = true;
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    private static final class SpillFileEnumerator implements Enumerator<Object> {
+        
+        private final DataInputStream input;
+        
+        private long remainingRowCount;
+        
+        private Object current;
+        
+        SpillFileEnumerator(final DataInputStream input, final long rowCount) {
+            this.input = input;
+            remainingRowCount = rowCount;
+        }
+        
+        @Override
+        public Object current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (remainingRowCount <= 0L) {
+                return false;
+            }
+            try {
+                current = SpillRowCodec.read(input);
+            } catch (final IOException ex) {
+                throw new SQLFederationSpillException("spill file", ex);
+            }
+            remainingRowCount--;
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException("Spill file can not be reset.");
+        }
+        
+        @Override
+        public void close() {
+            try {
+                input.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+}
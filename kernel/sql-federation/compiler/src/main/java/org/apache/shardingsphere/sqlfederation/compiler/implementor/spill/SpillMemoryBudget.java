@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spill memory budget shared by the operators of one query.
+ */
+@RequiredArgsConstructor
+public final class SpillMemoryBudget {
+    
+    public static final String DATA_CONTEXT_NAME = "shardingsphere.spillMemoryBudget";
+    
+    private static final SpillMemoryBudget UNLIMITED = new SpillMemoryBudget(0L);
+    
+    @Getter
+    private final long limitBytes;
+    
+    private final AtomicLong reservedBytes = new AtomicLong();
+    
+    /**
+     * Get spill memory budget of data context.
+     *
+     * @param dataContext data context
+     * @return spill memory budget, or unlimited budget if data context does not carry one
+     */
+    public static SpillMemoryBudget of(final DataContext dataContext) {
+        Object result = dataContext.get(DATA_CONTEXT_NAME);
+        return result instanceof SpillMemoryBudget ? (SpillMemoryBudget) result : UNLIMITED;
+    }
+    
+    /**
+     * Judge whether budget is unlimited.
+     *
+     * @return is unlimited or not
+     */
+    public boolean isUnlimited() {
+        return limitBytes <= 0L;
+    }
+    
+    /**
+     * Try to reserve memory.
+     *
+     * @param bytes bytes to reserve
+     * @return whether memory is reserved or not
+     */
+    public boolean tryReserve(final long bytes) {
+        if (isUnlimited()) {
+            return true;
+        }
+        long current;
+        do {
+            current = reservedBytes.get();
+            if (current + bytes > limitBytes) {
+                return false;
+            }
+        } while (!reservedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+    
+    /**
+     * Reserve memory even if budget is exceeded.
+     *
+     * @param bytes bytes to reserve
+     */
+    public void reserve(final long bytes) {
+        if (!isUnlimited()) {
+            reservedBytes.addAndGet(bytes);
+        }
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes bytes to release
+     */
+    public void release(final long bytes) {
+        if (!isUnlimited()) {
+            reservedBytes.addAndGet(-bytes);
+        }
+    }
+    
+    /**
+     * Get reserved bytes.
+     *
+     * @return reserved bytes
+     */
+    public long getReservedBytes() {
+        return reservedBytes.get();
+    }
+}
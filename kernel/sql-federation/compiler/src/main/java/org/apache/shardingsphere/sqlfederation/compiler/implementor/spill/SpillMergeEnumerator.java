@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spill merge enumerator, which merges sorted sources into one sorted enumerator.
+ *
+ * <p>Rows which are equal by the comparator are returned in the order of their sources, so that merging sorted runs keeps the sort stable.</p>
+ */
+public final class SpillMergeEnumerator implements Enumerator<Object> {
+    
+    private final List<Enumerator<Object>> sources;
+    
+    private final PriorityQueue<Integer> queue;
+    
+    private Object current;
+    
+    public SpillMergeEnumerator(final List<Enumerator<Object>> sources, final Comparator<Object> comparator) {
+        this.sources = sources;
+        queue = new PriorityQueue<>(Math.max(1, sources.size()), (o1, o2) -> {
+            int result = comparator.compare(sources.get(o1).current(), sources.get(o2).current());
+            return 0 == result ? Integer.compare(o1, o2) : result;
+        });
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i).moveNext()) {
+                queue.add(i);
+            }
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        Integer index = queue.poll();
+        if (null == index) {
+            return false;
+        }
+        Enumerator<Object> source = sources.get(index);
+        current = source.current();
+        if (source.moveNext()) {
+            queue.add(index);
+        }
+        return true;
+    }
+    
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("Spill merge enumerator can not be reset.");
+    }
+    
+    @Override
+    public void close() {
+        for (Enumerator<Object> each : sources) {
+            each.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Spill run merger, which merges sorted spill files in passes so that no more than {@link #MAX_MERGE_WAYS} files are read at the same time.
+ */
+@RequiredArgsConstructor
+final class SpillRunMerger {
+    
+    static final int MAX_MERGE_WAYS = 64;
+    
+    private final Comparator<Object> comparator;
+    
+    private final SpillOperatorType operatorType;
+    
+    private final Collection<SpillFile> spillFiles;
+    
+    /**
+     * Open readers of sorted spill files.
+     *
+     * @param runs sorted spill files
+     * @return readers, which are less than {@link #MAX_MERGE_WAYS}
+     * @throws IOException IO exception
+     */
+    List<Enumerator<Object>> openReaders(final List<SpillFile> runs) throws IOException {
+        List<SpillFile> mergedRuns = runs;
+        while (mergedRuns.size() >= MAX_MERGE_WAYS) {
+            mergedRuns = mergeRuns(mergedRuns);
+        }
+        List<Enumerator<Object>> result = new ArrayList<>(mergedRuns.size() + 1);
+        for (SpillFile each : mergedRuns) {
+            result.add(each.openReader());
+        }
+        return result;
+    }
+    
+    private List<SpillFile> mergeRuns(final List<SpillFile> runs) throws IOException {
+        List<SpillFile> result = new ArrayList<>(runs.size() / MAX_MERGE_WAYS + 1);
+        for (int i = 0; i < runs.size(); i += MAX_MERGE_WAYS) {
+            List<SpillFile> group = runs.subList(i, Math.min(i + MAX_MERGE_WAYS, runs.size()));
+            result.add(1 == group.size() ? group.get(0) : mergeGroup(group));
+        }
+        return result;
+    }
+    
+    private SpillFile mergeGroup(final List<SpillFile> group) throws IOException {
+        SpillFile result = new SpillFile();
+        spillFiles.add(result);
+        List<Enumerator<Object>> sources = new ArrayList<>(group.size());
+        for (SpillFile each : group) {
+            sources.add(each.openReader());
+        }
+        try (Enumerator<Object> merged = new SpillMergeEnumerator(sources, comparator)) {
+            while (merged.moveNext()) {
+                result.write(merged.current());
+            }
+        }
+        SpillStatistics.getInstance().recordSpill(operatorType, result.finish());
+        for (SpillFile each : group) {
+            each.close();
+        }
+        return result;
+    }
+}
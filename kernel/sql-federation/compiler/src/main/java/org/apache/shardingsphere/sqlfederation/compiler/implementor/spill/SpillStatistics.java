@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of SQL federation spills.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillStatistics {
+    
+    private static final SpillStatistics INSTANCE = new SpillStatistics();
+    
+    private final Map<SpillOperatorType, Counter> counters = createCounters();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static SpillStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    private static Map<SpillOperatorType, Counter> createCounters() {
+        Map<SpillOperatorType, Counter> result = new EnumMap<>(SpillOperatorType.class);
+        for (SpillOperatorType each : SpillOperatorType.values()) {
+            result.put(each, new Counter());
+        }
+        return result;
+    }
+    
+    /**
+     * Record spill.
+     *
+     * @param operatorType operator type
+     * @param spillBytes bytes written to spill file
+     */
+    public void recordSpill(final SpillOperatorType operatorType, final long spillBytes) {
+        Counter counter = counters.get(operatorType);
+        counter.spillCount.increment();
+        counter.spillBytes.add(spillBytes);
+    }
+    
+    /**
+     * Get spill count.
+     *
+     * @param operatorType operator type
+     * @return spill count
+     */
+    public long getSpillCount(final SpillOperatorType operatorType) {
+        return counters.get(operatorType).spillCount.sum();
+    }
+    
+    /**
+     * Get spill bytes.
+     *
+     * @param operatorType operator type
+     * @return spill bytes
+     */
+    public long getSpillBytes(final SpillOperatorType operatorType) {
+        return counters.get(operatorType).spillBytes.sum();
+    }
+    
+    private static final class Counter {
+        
+        private final LongAdder spillCount = new LongAdder();
+        
+        private final LongAdder spillBytes = new LongAdder();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.Comparator;
+
+/**
+ * Spillable enumerables, which are called by the code generated for spillable operators.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillableEnumerables {
+    
+    /**
+     * Sort rows within the spill memory budget of data context.
+     *
+     * @param root data context
+     * @param input input rows
+     * @param comparator row comparator
+     * @param <T> type of row
+     * @return sorted rows
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Enumerable<T> sort(final DataContext root, final Enumerable<T> input, final Comparator<T> comparator) {
+        return new AbstractEnumerable<T>() {
+            
+            @Override
+            public Enumerator<T> enumerator() {
+                return (Enumerator) new SpillableSortEnumerator(SpillMemoryBudget.of(root), (Enumerable) input, (Comparator) comparator);
+            }
+        };
+    }
+    
+    /**
+     * Equi hash join rows within the spill memory budget of data context.
+     *
+     * @param root data context
+     * @param left left rows, which are the probe side
+     * @param right right rows, which are the build side
+     * @param leftKeys key indexes of left rows
+     * @param rightKeys key indexes of right rows
+     * @param leftFieldCount field count of left rows
+     * @param rightFieldCount field count of right rows
+     * @param generateNullsOnLeft whether to return unmatched right rows with nulls on left
+     * @param generateNullsOnRight whether to return unmatched left rows with nulls on right
+     * @return joined rows
+     */
+    public static Enumerable<Object[]> hashJoin(final DataContext root, final Enumerable<Object[]> left, final Enumerable<Object[]> right, final int[] leftKeys, final int[] rightKeys,
+                                                final int leftFieldCount, final int rightFieldCount, final boolean generateNullsOnLeft, final boolean generateNullsOnRight) {
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return new SpillableHashJoinEnumerator(SpillMemoryBudget.of(root), left, right, leftKeys, rightKeys, leftFieldCount, rightFieldCount, generateNullsOnLeft, generateNullsOnRight);
+            }
+        };
+    }
+}
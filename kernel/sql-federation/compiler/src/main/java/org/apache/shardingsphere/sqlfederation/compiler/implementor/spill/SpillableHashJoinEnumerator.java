@@ -0,0 +1,470 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Spillable hash join enumerator.
+ *
+ * <p>The right input is the build side and the left input is the probe side. The build side is kept in an in-memory hash table
+ * until the spill memory budget is exhausted, then both sides are hash partitioned into spill files (grace hash join)
+ * and the partitions are joined one by one, partitioning again those whose build side still exceeds the budget.
+ * Joined rows of partitions are merged by the sequence of their probe rows, so the output keeps the order of the probe side
+ * just like the in-memory hash join, and unmatched build rows are returned at last.</p>
+ */
+public final class SpillableHashJoinEnumerator implements Enumerator<Object[]> {
+    
+    private static final String OPERATOR_NAME = "hash join";
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int MAX_PARTITION_LEVEL = 3;
+    
+    private static final int MIN_SPILL_ROW_COUNT = 64;
+    
+    private static final Comparator<Object> SEQUENCE_COMPARATOR = Comparator.comparingLong(each -> (Long) ((Object[]) each)[0]);
+    
+    private final SpillMemoryBudget budget;
+    
+    private final Enumerable<Object[]> left;
+    
+    private final Enumerable<Object[]> right;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final int leftFieldCount;
+    
+    private final int rightFieldCount;
+    
+    private final boolean generateNullsOnLeft;
+    
+    private final boolean generateNullsOnRight;
+    
+    private final Collection<SpillFile> spillFiles = new LinkedList<>();
+    
+    private final Deque<Enumerator<Object[]>> outputs = new LinkedList<>();
+    
+    private long reservedBytes;
+    
+    private boolean joined;
+    
+    private Object[] current;
+    
+    public SpillableHashJoinEnumerator(final SpillMemoryBudget budget, final Enumerable<Object[]> left, final Enumerable<Object[]> right, final int[] leftKeys, final int[] rightKeys,
+                                       final int leftFieldCount, final int rightFieldCount, final boolean generateNullsOnLeft, final boolean generateNullsOnRight) {
+        this.budget = budget;
+        this.left = left;
+        this.right = right;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.leftFieldCount = leftFieldCount;
+        this.rightFieldCount = rightFieldCount;
+        this.generateNullsOnLeft = generateNullsOnLeft;
+        this.generateNullsOnRight = generateNullsOnRight;
+    }
+    
+    @Override
+    public Object[] current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (!joined) {
+            joined = true;
+            try {
+                join();
+            } catch (final IOException ex) {
+                throw new SQLFederationSpillException(OPERATOR_NAME, ex);
+            }
+        }
+        while (!outputs.isEmpty()) {
+            if (outputs.peek().moveNext()) {
+                current = outputs.peek().current();
+                return true;
+            }
+            outputs.poll().close();
+        }
+        return false;
+    }
+    
+    private void join() throws IOException {
+        HashJoinTable table = new HashJoinTable();
+        Partitions buildPartitions = null;
+        try (Enumerator<Object[]> enumerator = right.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object[] row = enumerator.current();
+                Object key = getKey(row, rightKeys);
+                long size = SpillRowCodec.estimateSize(row);
+                if (null == buildPartitions && !budget.tryReserve(size)) {
+                    if (table.rowCount >= MIN_SPILL_ROW_COUNT) {
+                        buildPartitions = spillBuildTable(table);
+                    } else {
+                        budget.reserve(size);
+                    }
+                }
+                if (null == buildPartitions) {
+                    table.add(key, row, size);
+                    reservedBytes += size;
+                } else {
+                    buildPartitions.write(key, row, size);
+                }
+            }
+        }
+        if (null == buildPartitions) {
+            outputs.add(new ProbeEnumerator(table, left.enumerator()));
+        } else {
+            joinPartitions(buildPartitions);
+        }
+    }
+    
+    private Partitions spillBuildTable(final HashJoinTable table) throws IOException {
+        Partitions result = new Partitions(0);
+        for (Entry<Object, List<Object[]>> entry : table.rows.entrySet()) {
+            for (Object[] each : entry.getValue()) {
+                result.write(entry.getKey(), each, SpillRowCodec.estimateSize(each));
+            }
+        }
+        for (Object[] each : table.nullKeyRows) {
+            result.write(null, each, SpillRowCodec.estimateSize(each));
+        }
+        releaseReservedBytes();
+        return result;
+    }
+    
+    private void joinPartitions(final Partitions buildPartitions) throws IOException {
+        Partitions probePartitions = new Partitions(0);
+        try (Enumerator<Object[]> enumerator = left.enumerator()) {
+            for (long sequence = 0L; enumerator.moveNext(); sequence++) {
+                Object[] row = enumerator.current();
+                probePartitions.write(getKey(row, leftKeys), new Object[]{sequence, row}, 0L);
+            }
+        }
+        SpillStatistics.getInstance().recordSpill(SpillOperatorType.HASH_JOIN, buildPartitions.finish() + probePartitions.finish());
+        List<SpillFile> joinedPartitions = new ArrayList<>(PARTITION_COUNT);
+        SpillFile unmatchedBuildRows = generateNullsOnLeft ? createSpillFile() : null;
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            joinPartition(buildPartitions, probePartitions, i, joinedPartitions, unmatchedBuildRows);
+        }
+        List<Enumerator<Object>> sources = new SpillRunMerger(SEQUENCE_COMPARATOR, SpillOperatorType.HASH_JOIN, spillFiles).openReaders(joinedPartitions);
+        outputs.add(Linq4j.transform(new SpillMergeEnumerator(sources, SEQUENCE_COMPARATOR), each -> (Object[]) ((Object[]) each)[1]));
+        if (null != unmatchedBuildRows) {
+            SpillStatistics.getInstance().recordSpill(SpillOperatorType.HASH_JOIN, unmatchedBuildRows.finish());
+            outputs.add(Linq4j.transform(unmatchedBuildRows.openReader(), each -> (Object[]) each));
+        }
+    }
+    
+    private void joinPartition(final Partitions buildPartitions, final Partitions probePartitions, final int index,
+                               final List<SpillFile> joinedPartitions, final SpillFile unmatchedBuildRows) throws IOException {
+        SpillFile build = buildPartitions.files[index];
+        SpillFile probe = probePartitions.files[index];
+        if (null != build && build.getRowCount() >= MIN_SPILL_ROW_COUNT && buildPartitions.level < MAX_PARTITION_LEVEL && buildPartitions.estimatedBytes[index] > budget.getLimitBytes()) {
+            Partitions subBuildPartitions = repartition(build, buildPartitions.level + 1, rightKeys, false);
+            Partitions subProbePartitions = null == probe ? new Partitions(buildPartitions.level + 1) : repartition(probe, buildPartitions.level + 1, leftKeys, true);
+            SpillStatistics.getInstance().recordSpill(SpillOperatorType.HASH_JOIN, subBuildPartitions.finish() + subProbePartitions.finish());
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                joinPartition(subBuildPartitions, subProbePartitions, i, joinedPartitions, unmatchedBuildRows);
+            }
+            return;
+        }
+        HashJoinTable table = loadBuildTable(build);
+        if (null != probe && (null != build || generateNullsOnRight)) {
+            joinedPartitions.add(probePartition(table, probe));
+        }
+        if (null != unmatchedBuildRows) {
+            for (Object[] each : table.getUnmatchedRows()) {
+                unmatchedBuildRows.write(joinRow(null, each));
+            }
+        }
+        releaseReservedBytes();
+    }
+    
+    private Partitions repartition(final SpillFile spillFile, final int level, final int[] keys, final boolean sequenced) throws IOException {
+        Partitions result = new Partitions(level);
+        try (Enumerator<Object> enumerator = spillFile.openReader()) {
+            while (enumerator.moveNext()) {
+                Object[] record = (Object[]) enumerator.current();
+                Object[] row = sequenced ? (Object[]) record[1] : record;
+                result.write(getKey(row, keys), record, sequenced ? 0L : SpillRowCodec.estimateSize(row));
+            }
+        }
+        spillFile.close();
+        return result;
+    }
+    
+    private HashJoinTable loadBuildTable(final SpillFile build) throws IOException {
+        HashJoinTable result = new HashJoinTable();
+        if (null == build) {
+            return result;
+        }
+        try (Enumerator<Object> enumerator = build.openReader()) {
+            while (enumerator.moveNext()) {
+                Object[] row = (Object[]) enumerator.current();
+                long size = SpillRowCodec.estimateSize(row);
+                budget.reserve(size);
+                reservedBytes += size;
+                result.add(getKey(row, rightKeys), row, size);
+            }
+        }
+        return result;
+    }
+    
+    private SpillFile probePartition(final HashJoinTable table, final SpillFile probe) throws IOException {
+        SpillFile result = createSpillFile();
+        List<Object[]> joinedRows = new LinkedList<>();
+        try (Enumerator<Object> enumerator = probe.openReader()) {
+            while (enumerator.moveNext()) {
+                Object[] record = (Object[]) enumerator.current();
+                probe(table, (Object[]) record[1], joinedRows);
+                for (Object[] each : joinedRows) {
+                    result.write(new Object[]{record[0], each});
+                }
+                joinedRows.clear();
+            }
+        }
+        SpillStatistics.getInstance().recordSpill(SpillOperatorType.HASH_JOIN, result.finish());
+        return result;
+    }
+    
+    private void probe(final HashJoinTable table, final Object[] probeRow, final Collection<Object[]> joinedRows) {
+        List<Object[]> buildRows = table.find(getKey(probeRow, leftKeys), generateNullsOnLeft);
+        for (Object[] each : buildRows) {
+            joinedRows.add(joinRow(probeRow, each));
+        }
+        if (buildRows.isEmpty() && generateNullsOnRight) {
+            joinedRows.add(joinRow(probeRow, null));
+        }
+    }
+    
+    private Object[] joinRow(final Object[] leftRow, final Object[] rightRow) {
+        Object[] result = new Object[leftFieldCount + rightFieldCount];
+        if (null != leftRow) {
+            System.arraycopy(leftRow, 0, result, 0, leftFieldCount);
+        }
+        if (null != rightRow) {
+            System.arraycopy(rightRow, 0, result, leftFieldCount, rightFieldCount);
+        }
+        return result;
+    }
+    
+    private Object getKey(final Object[] row, final int[] keys) {
+        if (1 == keys.length) {
+            return row[keys[0]];
+        }
+        Object[] result = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = row[keys[i]];
+            if (null == result[i]) {
+                return null;
+            }
+        }
+        return Arrays.asList(result);
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private void releaseReservedBytes() {
+        budget.release(reservedBytes);
+        reservedBytes = 0L;
+    }
+    
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("Spillable hash join enumerator can not be reset.");
+    }
+    
+    @Override
+    public void close() {
+        for (Enumerator<Object[]> each : outputs) {
+            each.close();
+        }
+        outputs.clear();
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        spillFiles.clear();
+        releaseReservedBytes();
+    }
+    
+    private static final class HashJoinTable {
+        
+        private final Map<Object, List<Object[]>> rows = new HashMap<>();
+        
+        private final List<Object[]> nullKeyRows = new LinkedList<>();
+        
+        private final Collection<Object> matchedKeys = new HashSet<>();
+        
+        private long rowCount;
+        
+        private void add(final Object key, final Object[] row, final long size) {
+            if (null == key) {
+                nullKeyRows.add(row);
+            } else {
+                rows.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(row);
+            }
+            rowCount++;
+        }
+        
+        private List<Object[]> find(final Object key, final boolean markMatched) {
+            List<Object[]> result = null == key ? null : rows.get(key);
+            if (null == result) {
+                return Collections.emptyList();
+            }
+            if (markMatched) {
+                matchedKeys.add(key);
+            }
+            return result;
+        }
+        
+        private Collection<Object[]> getUnmatchedRows() {
+            Collection<Object[]> result = new LinkedList<>(nullKeyRows);
+            for (Entry<Object, List<Object[]>> entry : rows.entrySet()) {
+                if (!matchedKeys.contains(entry.getKey())) {
+                    result.addAll(entry.getValue());
+                }
+            }
+            return result;
+        }
+    }
+    
+    private final class Partitions {
+        
+        private final int level;
+        
+        private final SpillFile[] files = new SpillFile[PARTITION_COUNT];
+        
+        private final long[] estimatedBytes = new long[PARTITION_COUNT];
+        
+        private Partitions(final int level) {
+            this.level = level;
+        }
+        
+        private void write(final Object key, final Object record, final long size) throws IOException {
+            int index = getPartitionIndex(key);
+            if (null == files[index]) {
+                files[index] = createSpillFile();
+            }
+            files[index].write(record);
+            estimatedBytes[index] += size;
+        }
+        
+        private int getPartitionIndex(final Object key) {
+            int hash = null == key ? 0 : key.hashCode();
+            hash ^= hash >>> 16;
+            hash *= 0x85ebca6b;
+            hash ^= hash >>> 13;
+            hash *= 0xc2b2ae35;
+            hash ^= hash >>> 16;
+            return hash >>> (level * PARTITION_BITS) & PARTITION_COUNT - 1;
+        }
+        
+        private long finish() throws IOException {
+            long result = 0L;
+            for (SpillFile each : files) {
+                if (null != each) {
+                    result += each.finish();
+                }
+            }
+            return result;
+        }
+    }
+    
+    private final class ProbeEnumerator implements Enumerator<Object[]> {
+        
+        private final HashJoinTable table;
+        
+        private final Enumerator<Object[]> probeRows;
+        
+        private final Deque<Object[]> joinedRows = new ArrayDeque<>();
+        
+        private boolean probed;
+        
+        private Object[] current;
+        
+        private ProbeEnumerator(final HashJoinTable table, final Enumerator<Object[]> probeRows) {
+            this.table = table;
+            this.probeRows = probeRows;
+        }
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            while (joinedRows.isEmpty()) {
+                if (probed) {
+                    return false;
+                }
+                if (probeRows.moveNext()) {
+                    probe(table, probeRows.current(), joinedRows);
+                    continue;
+                }
+                probed = true;
+                if (generateNullsOnLeft) {
+                    for (Object[] each : table.getUnmatchedRows()) {
+                        joinedRows.add(joinRow(null, each));
+                    }
+                }
+            }
+            current = joinedRows.poll();
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException("Probe enumerator can not be reset.");
+        }
+        
+        @Override
+        public void close() {
+            probeRows.close();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Spillable sort enumerator.
+ *
+ * <p>Rows are sorted in memory until the spill memory budget is exhausted, then sorted runs are written to spill files
+ * and merged with the rows left in memory.</p>
+ */
+public final class SpillableSortEnumerator implements Enumerator<Object> {
+    
+    private static final String OPERATOR_NAME = "sort";
+    
+    private static final int MIN_SPILL_ROW_COUNT = 64;
+    
+    private final SpillMemoryBudget budget;
+    
+    private final Enumerable<Object> input;
+    
+    private final Comparator<Object> comparator;
+    
+    private final List<SpillFile> spillFiles = new ArrayList<>();
+    
+    private final List<SpillFile> runs = new ArrayList<>();
+    
+    private List<Object> rows = new ArrayList<>();
+    
+    private long reservedBytes;
+    
+    private Enumerator<Object> sorted;
+    
+    public SpillableSortEnumerator(final SpillMemoryBudget budget, final Enumerable<Object> input, final Comparator<Object> comparator) {
+        this.budget = budget;
+        this.input = input;
+        this.comparator = comparator;
+    }
+    
+    @Override
+    public Object current() {
+        return sorted.current();
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (null == sorted) {
+            try {
+                sorted = sort();
+            } catch (final IOException ex) {
+                throw new SQLFederationSpillException(OPERATOR_NAME, ex);
+            }
+        }
+        return sorted.moveNext();
+    }
+    
+    private Enumerator<Object> sort() throws IOException {
+        try (Enumerator<Object> enumerator = input.enumerator()) {
+            while (enumerator.moveNext()) {
+                add(enumerator.current());
+            }
+        }
+        rows.sort(comparator);
+        if (runs.isEmpty()) {
+            return Linq4j.enumerator(rows);
+        }
+        List<Enumerator<Object>> sources = new SpillRunMerger(comparator, SpillOperatorType.SORT, spillFiles).openReaders(runs);
+        sources.add(Linq4j.enumerator(rows));
+        return new SpillMergeEnumerator(sources, comparator);
+    }
+    
+    private void add(final Object row) throws IOException {
+        long size = SpillRowCodec.estimateSize(row);
+        if (!budget.tryReserve(size)) {
+            if (rows.size() >= MIN_SPILL_ROW_COUNT) {
+                spillRows();
+            }
+            budget.reserve(size);
+        }
+        reservedBytes += size;
+        rows.add(row);
+    }
+    
+    private void spillRows() throws IOException {
+        rows.sort(comparator);
+        SpillFile run = createSpillFile();
+        runs.add(run);
+        for (Object each : rows) {
+            run.write(each);
+        }
+        SpillStatistics.getInstance().recordSpill(SpillOperatorType.SORT, run.finish());
+        rows = new ArrayList<>();
+        budget.release(reservedBytes);
+        reservedBytes = 0L;
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("Spillable sort enumerator can not be reset.");
+    }
+    
+    @Override
+    public void close() {
+        if (null != sorted) {
+            sorted.close();
+        }
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        spillFiles.clear();
+        runs.clear();
+        rows = new ArrayList<>();
+        budget.release(reservedBytes);
+        reservedBytes = 0L;
+    }
+}
@@ -45,7 +45,7 @@ public final class SQLFederationDatabase extends AbstractSchema {
     private Map<String, Schema> createSubSchemaMap(final ShardingSphereDatabase database, final DatabaseType protocolType) {
         Map<String, Schema> result = new CaseInsensitiveMap<>(database.getAllSchemas().size(), 1F);
         for (ShardingSphereSchema each : database.getAllSchemas()) {
-            result.put(each.getName(), new SQLFederationSchema(each.getName(), each, protocolType));
+            result.put(each.getName(), new SQLFederationSchema(each.getName(), each, database.getRuleMetaData(), protocolType));
         }
         return result;
     }
@@ -41,11 +41,16 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ModifiableTable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.ColocatedJoinRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
@@ -64,8 +69,12 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     
     private static final TransmittableThreadLocal<ScanImplementor> SCAN_IMPLEMENTOR_HOLDER = new TransmittableThreadLocal<>();
     
+    private final String schemaName;
+    
     private final ShardingSphereTable table;
     
+    private final RuleMetaData ruleMetaData;
+    
     private final DatabaseType protocolType;
     
     @Override
@@ -73,6 +82,11 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return SQLFederationDataTypeBuilder.build(table, protocolType, typeFactory);
     }
     
+    @Override
+    public Statistic getStatistic() {
+        return null == SCAN_IMPLEMENTOR_HOLDER.get() ? Statistics.UNKNOWN : SCAN_IMPLEMENTOR_HOLDER.get().getStatistic(schemaName, table);
+    }
+    
     @Override
     public Expression getExpression(final SchemaPlus schema, final String tableName, final Class clazz) {
         return Schemas.tableExpression(schema, getElementType(), tableName, clazz);
@@ -119,6 +133,37 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         };
     }
     
+    /**
+     * Judge whether table is replica based distribution.
+     *
+     * @return is replica based distribution or not
+     */
+    public boolean isReplicaBasedDistribution() {
+        for (DataNodeRuleAttribute each : ruleMetaData.getAttributes(DataNodeRuleAttribute.class)) {
+            if (each.isReplicaBasedDistribution() && each.findFirstActualTable(table.getName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether table is co-located with other table when they are joined with equal conditions on the columns.
+     *
+     * @param columns join column names
+     * @param otherTable other table
+     * @param otherColumns other join column names, each one is equal to the join column at the same index
+     * @return co-located or not
+     */
+    public boolean isColocatedJoin(final List<String> columns, final SQLFederationTable otherTable, final List<String> otherColumns) {
+        for (ColocatedJoinRuleAttribute each : ruleMetaData.getAttributes(ColocatedJoinRuleAttribute.class)) {
+            if (each.isColocatedJoin(table.getName(), columns, otherTable.table.getName(), otherColumns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public String toString() {
         return "SQLFederationTable";
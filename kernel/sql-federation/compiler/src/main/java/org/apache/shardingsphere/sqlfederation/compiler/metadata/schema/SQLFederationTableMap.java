@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.metadata.schema;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeImpl;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.schema.impl.ViewTable;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeBuilder;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeFactory;
+
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * SQL federation table map.
+ *
+ * <p>Tables are looked up from schema and wrapped on every reference, so that lazily loaded tables of schema are neither loaded nor retained by building federation schemas.</p>
+ */
+@RequiredArgsConstructor
+final class SQLFederationTableMap extends AbstractMap<String, Table> {
+    
+    private final ShardingSphereSchema schema;
+    
+    private final RuleMetaData ruleMetaData;
+    
+    private final DatabaseType protocolType;
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return schema.containsTable((String) key);
+    }
+    
+    @Override
+    public Table get(final Object key) {
+        ShardingSphereTable table = schema.getTable((String) key);
+        return null == table ? null : createTable(table);
+    }
+    
+    @Override
+    public Set<String> keySet() {
+        return new LinkedHashSet<>(schema.getAllTableNames());
+    }
+    
+    @Override
+    public int size() {
+        return schema.getAllTableNames().size();
+    }
+    
+    @Override
+    public Set<Entry<String, Table>> entrySet() {
+        Collection<ShardingSphereTable> tables = schema.getAllTables();
+        Set<Entry<String, Table>> result = new LinkedHashSet<>(tables.size(), 1F);
+        for (ShardingSphereTable each : tables) {
+            result.add(new SimpleImmutableEntry<>(each.getName(), createTable(each)));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+    
+    private Table createTable(final ShardingSphereTable table) {
+        return schema.containsView(table.getName()) ? createViewTable(table) : new SQLFederationTable(schema.getName(), table, ruleMetaData, protocolType);
+    }
+    
+    private ViewTable createViewTable(final ShardingSphereTable table) {
+        RelDataType relDataType = SQLFederationDataTypeBuilder.build(table, protocolType, SQLFederationDataTypeFactory.getInstance());
+        ShardingSphereView view = schema.getView(table.getName());
+        return new ViewTable(new JavaTypeFactoryImpl().getJavaClass(relDataType), RelDataTypeImpl.proto(relDataType), view.getViewDefinition(), Collections.emptyList(), Collections.emptyList());
+    }
+}
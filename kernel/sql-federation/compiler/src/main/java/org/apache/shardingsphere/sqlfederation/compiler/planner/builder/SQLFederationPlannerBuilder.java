@@ -35,8 +35,14 @@ import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableHashJoinConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableSortConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushFilterIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushJoinIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushSortIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.SwapJoinBuildSideRule;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -53,31 +59,32 @@ public final class SQLFederationPlannerBuilder {
      * Build new instance of volcano planner.
      *
      * @param convention convention
+     * @param spillEnabled whether joins and sorts may spill to disk
      * @return volcano planner instance
      */
-    public static RelOptPlanner buildVolcanoPlanner(final Convention convention) {
+    public static RelOptPlanner buildVolcanoPlanner(final Convention convention, final boolean spillEnabled) {
         RelOptPlanner result = new VolcanoPlanner();
-        setUpRules(result, convention);
+        setUpRules(result, convention, spillEnabled);
         return result;
     }
     
-    private static void setUpRules(final RelOptPlanner planner, final Convention convention) {
+    private static void setUpRules(final RelOptPlanner planner, final Convention convention, final boolean spillEnabled) {
         planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
         planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
         if (EnumerableConvention.INSTANCE == convention) {
-            setUpEnumerableConventionRules(planner);
+            setUpEnumerableConventionRules(planner, spillEnabled);
         }
     }
     
-    private static void setUpEnumerableConventionRules(final RelOptPlanner planner) {
-        planner.addRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+    private static void setUpEnumerableConventionRules(final RelOptPlanner planner, final boolean spillEnabled) {
+        planner.addRule(spillEnabled ? EnumerableSpillableHashJoinConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_MERGE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CORRELATE_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_PROJECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_FILTER_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CALC_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
-        planner.addRule(EnumerableRules.ENUMERABLE_SORT_RULE);
+        planner.addRule(spillEnabled ? EnumerableSpillableSortConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_SORT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_LIMIT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_COLLECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_UNCOLLECT_RULE);
@@ -109,6 +116,7 @@ public final class SQLFederationPlannerBuilder {
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSortRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getPushIntoScanRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getJoinBuildSideRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addMatchLimit(DEFAULT_MATCH_LIMIT);
         return new HepPlanner(builder.build());
@@ -132,6 +140,15 @@ public final class SQLFederationPlannerBuilder {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
         result.add(PushProjectIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushJoinIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
+        return result;
+    }
+    
+    private static Collection<RelOptRule> getJoinBuildSideRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(SwapJoinBuildSideRule.Config.DEFAULT.toRule());
         return result;
     }
     
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableSpillableSort;
+
+/**
+ * Enumerable spillable sort converter rule.
+ */
+public final class EnumerableSpillableSortConverterRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(Sort.class, Convention.NONE, EnumerableConvention.INSTANCE, EnumerableSpillableSortConverterRule.class.getSimpleName())
+            .withRuleFactory(EnumerableSpillableSortConverterRule::new);
+    
+    private EnumerableSpillableSortConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        Sort sort = (Sort) rel;
+        if (null != sort.offset || null != sort.fetch) {
+            return null;
+        }
+        RelNode input = sort.getInput();
+        return new EnumerableSpillableSort(sort.getCluster(), sort.getCluster().traitSetOf(EnumerableConvention.INSTANCE).replace(sort.getCollation()),
+                convert(input, input.getTraitSet().replace(EnumerableConvention.INSTANCE)), sort.getCollation());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Push aggregate into scan rule.
+ *
+ * <p>The aggregate is pushed into scan as partial aggregation, and a final aggregation which merges partial results is kept in federation.</p>
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isAggregateOrSortPushedDown()) {
+            return false;
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        if (Aggregate.Group.SIMPLE != logicalAggregate.getGroupType()) {
+            return false;
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isMergeable(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isMergeable(final AggregateCall aggregateCall) {
+        return !aggregateCall.isDistinct() && !aggregateCall.isApproximate() && !aggregateCall.hasFilter() && aggregateCall.getCollation().getFieldCollations().isEmpty()
+                && null != getMergeFunction(aggregateCall.getAggregation().getKind());
+    }
+    
+    private SqlAggFunction getMergeFunction(final SqlKind kind) {
+        switch (kind) {
+            case COUNT:
+            case SUM0:
+                return SqlStdOperatorTable.SUM0;
+            case SUM:
+                return SqlStdOperatorTable.SUM;
+            case MIN:
+                return SqlStdOperatorTable.MIN;
+            case MAX:
+                return SqlStdOperatorTable.MAX;
+            default:
+                return null;
+        }
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(logicalAggregate);
+        call.transformTo(createMergeAggregate(logicalAggregate, logicalScan));
+    }
+    
+    private LogicalAggregate createMergeAggregate(final LogicalAggregate logicalAggregate, final LogicalScan logicalScan) {
+        int groupCount = logicalAggregate.getGroupCount();
+        List<AggregateCall> aggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        int index = groupCount;
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            aggregateCalls.add(AggregateCall.create(getMergeFunction(each.getAggregation().getKind()), false, false, false, Collections.emptyList(), Collections.singletonList(index++), -1,
+                    null, RelCollations.EMPTY, each.getType(), each.getName()));
+        }
+        return LogicalAggregate.create(logicalScan, logicalAggregate.getHints(), ImmutableBitSet.range(groupCount), null, aggregateCalls);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
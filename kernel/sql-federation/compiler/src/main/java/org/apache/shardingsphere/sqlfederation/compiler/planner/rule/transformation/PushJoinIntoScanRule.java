@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.util.Pair;
+import org.apache.calcite.util.mapping.IntPair;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Push join into scan rule.
+ *
+ * <p>The join of two scans is pushed into one scan when the tables are co-located, so that storage nodes execute the join without moving rows into federation.
+ * Binding tables are co-located when they are joined with equal conditions on sharding columns, and replica based distribution tables (such as broadcast tables)
+ * are co-located with any table as long as the join does not need to preserve their unmatched rows.</p>
+ */
+@Value.Enclosing
+public final class PushJoinIntoScanRule extends RelRule<PushJoinIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushJoinIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        if (isSystemSchema(leftScan) || isSystemSchema(rightScan) || !isSameSchema(leftScan, rightScan) || leftScan.isAggregateOrSortPushedDown() || rightScan.isAggregateOrSortPushedDown()) {
+            return false;
+        }
+        JoinRelType joinType = logicalJoin.getJoinType();
+        if (JoinRelType.INNER != joinType && JoinRelType.LEFT != joinType && JoinRelType.RIGHT != joinType && JoinRelType.FULL != joinType) {
+            return false;
+        }
+        boolean leftReplicated = isReplicaBasedDistribution(leftScan);
+        boolean rightReplicated = isReplicaBasedDistribution(rightScan);
+        if (leftReplicated && rightReplicated) {
+            return true;
+        }
+        if (leftReplicated) {
+            return JoinRelType.INNER == joinType || JoinRelType.RIGHT == joinType;
+        }
+        if (rightReplicated) {
+            return JoinRelType.INNER == joinType || JoinRelType.LEFT == joinType;
+        }
+        return isColocatedJoin(call.getMetadataQuery(), logicalJoin, leftScan, rightScan);
+    }
+    
+    private boolean isSystemSchema(final LogicalScan logicalScan) {
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSameSchema(final LogicalScan leftScan, final LogicalScan rightScan) {
+        List<String> leftQualifiedName = leftScan.getTable().getQualifiedName();
+        List<String> rightQualifiedName = rightScan.getTable().getQualifiedName();
+        return leftQualifiedName.subList(0, leftQualifiedName.size() - 1).equals(rightQualifiedName.subList(0, rightQualifiedName.size() - 1));
+    }
+    
+    private boolean isReplicaBasedDistribution(final LogicalScan logicalScan) {
+        for (RelOptTable each : RelOptUtil.findAllTables(logicalScan.peek())) {
+            SQLFederationTable table = each.unwrap(SQLFederationTable.class);
+            if (null == table || !table.isReplicaBasedDistribution()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isColocatedJoin(final RelMetadataQuery metadataQuery, final LogicalJoin logicalJoin, final LogicalScan leftScan, final LogicalScan rightScan) {
+        Map<Pair<SQLFederationTable, SQLFederationTable>, Pair<List<String>, List<String>>> joinColumns = new LinkedHashMap<>();
+        for (IntPair each : logicalJoin.analyzeCondition().pairs()) {
+            RelColumnOrigin leftColumnOrigin = metadataQuery.getColumnOrigin(leftScan.peek(), each.source);
+            RelColumnOrigin rightColumnOrigin = metadataQuery.getColumnOrigin(rightScan.peek(), each.target);
+            if (null == leftColumnOrigin || null == rightColumnOrigin || leftColumnOrigin.isDerived() || rightColumnOrigin.isDerived()) {
+                continue;
+            }
+            SQLFederationTable leftTable = leftColumnOrigin.getOriginTable().unwrap(SQLFederationTable.class);
+            SQLFederationTable rightTable = rightColumnOrigin.getOriginTable().unwrap(SQLFederationTable.class);
+            if (null == leftTable || null == rightTable) {
+                continue;
+            }
+            Pair<List<String>, List<String>> columns = joinColumns.computeIfAbsent(Pair.of(leftTable, rightTable), key -> Pair.of(new ArrayList<>(), new ArrayList<>()));
+            columns.left.add(getColumnName(leftColumnOrigin));
+            columns.right.add(getColumnName(rightColumnOrigin));
+        }
+        for (Entry<Pair<SQLFederationTable, SQLFederationTable>, Pair<List<String>, List<String>>> entry : joinColumns.entrySet()) {
+            if (entry.getKey().left.isColocatedJoin(entry.getValue().left, entry.getKey().right, entry.getValue().right)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String getColumnName(final RelColumnOrigin columnOrigin) {
+        return columnOrigin.getOriginTable().getRowType().getFieldNames().get(columnOrigin.getOriginColumnOrdinal());
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        leftScan.pushDown(logicalJoin, rightScan);
+        call.transformTo(leftScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushJoinIntoScanRule.Config.builder().description(PushJoinIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushJoinIntoScanRule toRule() {
+            return new PushJoinIntoScanRule(this);
+        }
+    }
+}
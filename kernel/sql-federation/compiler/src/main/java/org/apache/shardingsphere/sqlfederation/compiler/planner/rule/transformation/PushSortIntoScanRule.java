@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Push sort into scan rule.
+ *
+ * <p>Only sort with fetch is pushed into scan as top-N of offset plus fetch rows, and the original sort is kept in federation to merge the results.</p>
+ */
+@Value.Enclosing
+public final class PushSortIntoScanRule extends RelRule<PushSortIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushSortIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isAggregateOrSortPushedDown()) {
+            return false;
+        }
+        LogicalSort logicalSort = call.rel(0);
+        return null != logicalSort.fetch && (null == logicalSort.offset || logicalSort.offset instanceof RexLiteral && logicalSort.fetch instanceof RexLiteral);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown((LogicalSort) logicalSort.copy(logicalSort.getTraitSet(), logicalScan, logicalSort.getCollation(), null, getPushDownFetch(logicalSort)));
+        call.transformTo(logicalSort.copy(logicalSort.getTraitSet(), logicalScan, logicalSort.getCollation(), logicalSort.offset, logicalSort.fetch));
+    }
+    
+    private RexNode getPushDownFetch(final LogicalSort logicalSort) {
+        if (null == logicalSort.offset) {
+            return logicalSort.fetch;
+        }
+        BigDecimal offset = ((RexLiteral) logicalSort.offset).getValueAs(BigDecimal.class);
+        BigDecimal fetch = ((RexLiteral) logicalSort.fetch).getValueAs(BigDecimal.class);
+        return logicalSort.getCluster().getRexBuilder().makeExactLiteral(offset.add(fetch));
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushSortIntoScanRule.Config.builder().description(PushSortIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalSort.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushSortIntoScanRule toRule() {
+            return new PushSortIntoScanRule(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.JoinCommuteRule;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.immutables.value.Value;
+
+/**
+ * Swap join build side rule.
+ *
+ * <p>Hash join builds the lookup from its right input, so inner join inputs are swapped when the estimated row count of the left input is less than the right one.
+ * The rule only works when statistics of all joined tables are collected, the estimated row counts are just guesses otherwise.</p>
+ */
+@Value.Enclosing
+public final class SwapJoinBuildSideRule extends RelRule<SwapJoinBuildSideRule.Config> implements TransformationRule {
+    
+    private SwapJoinBuildSideRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        if (JoinRelType.INNER != logicalJoin.getJoinType() || logicalJoin.analyzeCondition().leftKeys.isEmpty() || !isStatisticsCollected(logicalJoin)) {
+            return false;
+        }
+        RelMetadataQuery metadataQuery = call.getMetadataQuery();
+        return metadataQuery.getRowCount(logicalJoin.getLeft()) < metadataQuery.getRowCount(logicalJoin.getRight());
+    }
+    
+    private boolean isStatisticsCollected(final LogicalJoin logicalJoin) {
+        for (RelOptTable each : RelOptUtil.findAllTables(logicalJoin)) {
+            SQLFederationTable table = each.unwrap(SQLFederationTable.class);
+            if (null == table || null == table.getStatistic().getRowCount()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        RelNode swapped = JoinCommuteRule.swap(call.rel(0), false, call.builder());
+        if (null != swapped) {
+            call.transformTo(swapped);
+        }
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutableSwapJoinBuildSideRule.Config.builder().description(SwapJoinBuildSideRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).anyInputs()).build();
+        
+        @Override
+        default SwapJoinBuildSideRule toRule() {
+            return new SwapJoinBuildSideRule(this);
+        }
+    }
+}
@@ -20,12 +20,19 @@ package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical;
 import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Sort;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.builder.LogicalScanPushDownRelBuilder;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
 
@@ -71,6 +78,58 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.push(logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort.
+     *
+     * @param logicalSort logical sort
+     */
+    public void pushDown(final LogicalSort logicalSort) {
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalSort);
+    }
+    
+    /**
+     * Push down logical join with the scan of join right input.
+     *
+     * @param logicalJoin logical join
+     * @param rightScan logical scan of join right input
+     */
+    public void pushDown(final LogicalJoin logicalJoin, final LogicalScan rightScan) {
+        pushDownRelBuilder.push(logicalJoin.copy(logicalJoin.getTraitSet(), Arrays.asList(pushDownRelBuilder.build(), rightScan.peek())));
+        resetRowType(logicalJoin);
+    }
+    
+    /**
+     * Judge whether aggregate or sort is pushed down.
+     *
+     * @return aggregate or sort is pushed down or not
+     */
+    public boolean isAggregateOrSortPushedDown() {
+        return isAggregateOrSortPushedDown(pushDownRelBuilder.peek());
+    }
+    
+    private boolean isAggregateOrSortPushedDown(final RelNode relNode) {
+        if (relNode instanceof Aggregate || relNode instanceof Sort) {
+            return true;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (isAggregateOrSortPushedDown(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Peek rel node.
      *
@@ -80,6 +139,11 @@ public final class LogicalScan extends TableScan {
         return pushDownRelBuilder.peek();
     }
     
+    @Override
+    public double estimateRowCount(final RelMetadataQuery metadataQuery) {
+        return metadataQuery.getRowCount(pushDownRelBuilder.peek());
+    }
+    
     @Override
     public boolean deepEquals(final Object other) {
         if (pushDownRelBuilder.peek() instanceof LogicalTableScan) {
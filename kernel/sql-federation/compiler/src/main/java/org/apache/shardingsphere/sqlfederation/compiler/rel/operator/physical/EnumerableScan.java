@@ -31,6 +31,7 @@ import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
@@ -53,21 +54,31 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     
     private final RelDataType pushDownRowType;
     
+    private final double pushDownRowCount;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         sqlString = createSQLString(pushDownRelNode, databaseType);
         pushDownRowType = pushDownRelNode.getRowType();
+        pushDownRowCount = cluster.getMetadataQuery().getRowCount(pushDownRelNode);
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType,
+                          final double pushDownRowCount) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         this.sqlString = sqlString;
         this.pushDownRowType = pushDownRowType;
+        this.pushDownRowCount = pushDownRowCount;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType, pushDownRowCount);
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery metadataQuery) {
+        return pushDownRowCount;
     }
     
     @Override
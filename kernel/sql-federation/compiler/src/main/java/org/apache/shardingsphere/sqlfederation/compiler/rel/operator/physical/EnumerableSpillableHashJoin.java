@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerables;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Enumerable spillable hash join, which joins rows as grace hash join once the spill memory budget of query is exhausted.
+ */
+public final class EnumerableSpillableHashJoin extends EnumerableHashJoin {
+    
+    private static final Collection<JoinRelType> SPILLABLE_JOIN_TYPES = EnumSet.of(JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.RIGHT, JoinRelType.FULL);
+    
+    public EnumerableSpillableHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition,
+                                       final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        super(cluster, traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    /**
+     * Judge whether join can be spilled or not.
+     *
+     * <p>Only inner and outer joins whose conditions are all strict equalities of both inputs can be spilled.</p>
+     *
+     * @param join join
+     * @return can be spilled or not
+     */
+    public static boolean isSpillable(final Join join) {
+        if (!SPILLABLE_JOIN_TYPES.contains(join.getJoinType()) || !join.getVariablesSet().isEmpty()) {
+            return false;
+        }
+        JoinInfo joinInfo = JoinInfo.createWithStrictEquality(join.getLeft(), join.getRight(), join.getCondition());
+        return joinInfo.isEqui() && !joinInfo.leftKeys.isEmpty();
+    }
+    
+    @Override
+    public EnumerableHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        EnumerableHashJoin result = new EnumerableSpillableHashJoin(getCluster(), traitSet, left, right, condition, variablesSet, joinType);
+        return isSpillable(result) ? result : super.copy(traitSet, condition, left, right, joinType, semiJoinDone);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        JoinInfo joinInfo = JoinInfo.createWithStrictEquality(left, right, condition);
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) left, Prefer.ARRAY);
+        Expression leftExpression = builder.append("left", leftResult.physType.convertTo(builder.append("leftRows", leftResult.block), JavaRowFormat.ARRAY));
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) right, Prefer.ARRAY);
+        Expression rightExpression = builder.append("right", rightResult.physType.convertTo(builder.append("rightRows", rightResult.block), JavaRowFormat.ARRAY));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY);
+        builder.add(Expressions.return_(null, Expressions.call(SpillableEnumerables.class, "hashJoin", implementor.getRootExpression(), leftExpression, rightExpression,
+                Expressions.constant(joinInfo.leftKeys.toIntArray()), Expressions.constant(joinInfo.rightKeys.toIntArray()),
+                Expressions.constant(left.getRowType().getFieldCount()), Expressions.constant(right.getRowType().getFieldCount()),
+                Expressions.constant(joinType.generatesNullsOnLeft()), Expressions.constant(joinType.generatesNullsOnRight()))));
+        return implementor.result(physType, builder.toBlock());
+    }
+}
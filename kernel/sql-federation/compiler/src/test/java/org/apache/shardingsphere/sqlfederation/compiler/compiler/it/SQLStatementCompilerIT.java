@@ -20,22 +20,34 @@ package org.apache.shardingsphere.sqlfederation.compiler.compiler.it;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.config.CalciteConnectionConfigImpl;
 import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
 import org.apache.calcite.sql.SqlOperatorTable;
 import org.apache.calcite.sql.fun.SqlLibrary;
 import org.apache.calcite.sql.fun.SqlLibraryOperatorTableFactory;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.ColocatedJoinRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.function.mysql.MySQLOperatorTable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -49,13 +61,17 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class SQLStatementCompilerIT {
     
@@ -65,6 +81,8 @@ class SQLStatementCompilerIT {
     
     private SQLStatementCompiler sqlStatementCompiler;
     
+    private SQLFederationTable countryTable;
+    
     @BeforeEach
     void init() {
         Collection<ShardingSphereTable> tables = new LinkedList<>();
@@ -80,15 +98,35 @@ class SQLStatementCompilerIT {
         tables.add(createTProductDetailMetaData());
         tables.add(createMultiTypesFirstTableMetaData());
         tables.add(createMultiTypesSecondTableMetaData());
+        tables.add(createTCountryMetaData());
         CalciteSchema calciteSchema = CalciteSchema.createRootSchema(true);
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
-        calciteSchema.add(SCHEMA_NAME, new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema("foo_db", tables, Collections.emptyList()), databaseType));
+        SQLFederationSchema federationSchema = new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema("foo_db", tables, Collections.emptyList()), createRuleMetaData(), databaseType);
+        countryTable = (SQLFederationTable) federationSchema.getTableMap().get("t_country");
+        countryTable.setScanImplementor(new StatisticsScanImplementor());
+        calciteSchema.add(SCHEMA_NAME, federationSchema);
         sqlStatementCompiler = new SQLStatementCompiler(
                 new SQLFederationRelConverter(new CompilerContext(mock(SQLParserRule.class), calciteSchema, new CalciteConnectionConfigImpl(new Properties()), getOperatorTables()),
-                        Collections.singletonList("federate_jdbc"), databaseType, EnumerableConvention.INSTANCE),
+                        Collections.singletonList("federate_jdbc"), databaseType, EnumerableConvention.INSTANCE, false),
                 EnumerableConvention.INSTANCE);
     }
     
+    @AfterEach
+    void clean() {
+        countryTable.clearScanImplementor();
+    }
+    
+    private RuleMetaData createRuleMetaData() {
+        ColocatedJoinRuleAttribute colocatedJoinRuleAttribute = (leftTable, leftColumns, rightTable, rightColumns) -> "t_order_federate_sharding".equals(leftTable)
+                && "t_order_item_federate_sharding".equals(rightTable) && leftColumns.contains("user_id") && rightColumns.contains("user_id");
+        DataNodeRuleAttribute broadcastDataNodeRuleAttribute = mock(DataNodeRuleAttribute.class);
+        when(broadcastDataNodeRuleAttribute.isReplicaBasedDistribution()).thenReturn(true);
+        when(broadcastDataNodeRuleAttribute.findFirstActualTable("t_user_info")).thenReturn(Optional.of("t_user_info"));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(colocatedJoinRuleAttribute, broadcastDataNodeRuleAttribute));
+        return new RuleMetaData(Collections.singleton(rule));
+    }
+    
     private Collection<SqlOperatorTable> getOperatorTables() {
         SqlOperatorTable operatorTable =
                 SqlLibraryOperatorTableFactory.INSTANCE.getOperatorTable(Arrays.asList(SqlLibrary.STANDARD, SqlLibrary.MYSQL));
@@ -241,6 +279,12 @@ class SQLStatementCompilerIT {
                 Collections.emptyList(), Collections.emptyList());
     }
     
+    private ShardingSphereTable createTCountryMetaData() {
+        ShardingSphereColumn countryIdColumn = new ShardingSphereColumn("country_id", Types.SMALLINT, true, false, false, true, false, false);
+        ShardingSphereColumn countryNameColumn = new ShardingSphereColumn("country_name", Types.VARCHAR, false, false, false, true, false, false);
+        return new ShardingSphereTable("t_country", Arrays.asList(countryIdColumn, countryNameColumn), Collections.emptyList(), Collections.emptyList());
+    }
+    
     @ParameterizedTest(name = "{0}")
     @ArgumentsSource(TestCaseArgumentsProvider.class)
     void assertCompile(final TestCase testcase) {
@@ -249,6 +293,26 @@ class SQLStatementCompilerIT {
         assertThat(actual, is(testcase.getAssertion().iterator().next().getExpectedResult()));
     }
     
+    private static final class StatisticsScanImplementor implements ScanImplementor {
+        
+        private final Map<String, Statistic> statistics = new HashMap<>(2, 1F);
+        
+        StatisticsScanImplementor() {
+            statistics.put("t_country", Statistics.of(200D, Collections.emptyList()));
+            statistics.put("t_merchant", Statistics.of(100000D, Collections.emptyList()));
+        }
+        
+        @Override
+        public Enumerable<Object> implement(final ShardingSphereTable table, final ScanImplementorContext scanContext) {
+            throw new UnsupportedOperationException("implement");
+        }
+        
+        @Override
+        public Statistic getStatistic(final String schemaName, final ShardingSphereTable table) {
+            return statistics.getOrDefault(table.getName(), Statistics.UNKNOWN);
+        }
+    }
+    
     private static class TestCaseArgumentsProvider implements ArgumentsProvider {
         
         @Override
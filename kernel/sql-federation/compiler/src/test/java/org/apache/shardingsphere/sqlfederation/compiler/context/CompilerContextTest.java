@@ -21,14 +21,23 @@ import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.jdbc.CalciteSchema;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -53,6 +62,26 @@ class CompilerContextTest {
         assertThat(actual.getConnectionConfig(), isA(CalciteConnectionConfig.class));
     }
     
+    @Test
+    void assertCreateWithLazilyLoadedSchema() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", Arrays.asList("foo_tbl", "bar_tbl"), tableNames -> {
+            loadedCount.addAndGet(tableNames.size());
+            return tableNames.stream().map(each -> new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList())).collect(Collectors.toList());
+        }, 16);
+        ShardingSphereDatabase database = mockDatabase();
+        when(database.getAllSchemas()).thenReturn(Collections.singleton(schema));
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        CompilerContext actual = CompilerContextFactory.create(Collections.singleton(database));
+        assertThat(loadedCount.get(), is(0));
+        CalciteSchema federationSchema = actual.getCalciteSchema().getSubSchema("foo_db", false);
+        assertNotNull(federationSchema);
+        assertThat(federationSchema.getTableNames(), is(new TreeSet<>(Arrays.asList("bar_tbl", "foo_tbl"))));
+        assertThat(loadedCount.get(), is(0));
+        assertNotNull(federationSchema.getTable("foo_tbl", false));
+        assertThat(loadedCount.get(), is(1));
+    }
+    
     private ShardingSphereDatabase mockDatabase() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(result.getName()).thenReturn("foo_db");
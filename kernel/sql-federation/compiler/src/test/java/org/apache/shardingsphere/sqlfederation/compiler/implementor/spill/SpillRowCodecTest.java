@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+class SpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndReadRow() throws IOException {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        Object[] row = new Object[]{null, 1, 2L, "foo_中文", new BigDecimal("-12345678901234567890.0123"), 1.5D, 2.5F, (short) 3, (byte) 4, true,
+                new byte[]{1, 2}, new Date(1700000000000L), new Time(3600000L), timestamp, LocalDate.of(2024, 1, 1), new Object[]{"nested", null}};
+        Object[] actual = (Object[]) writeAndRead(row);
+        assertThat(actual.length, is(row.length));
+        assertThat(actual[0], is(nullValue()));
+        for (int i = 1; i < row.length; i++) {
+            if (row[i] instanceof Object[]) {
+                assertThat(Arrays.asList((Object[]) actual[i]), is(Arrays.asList((Object[]) row[i])));
+            } else {
+                assertThat(actual[i], is(row[i]));
+            }
+        }
+    }
+    
+    @Test
+    void assertWriteAndReadSingleValue() throws IOException {
+        assertThat(writeAndRead("foo"), is("foo"));
+        assertThat(writeAndRead(null), is(nullValue()));
+    }
+    
+    @Test
+    void assertEstimateSize() {
+        assertThat(SpillRowCodec.estimateSize(new Object[]{1L, "foo_bar"}), greaterThan(SpillRowCodec.estimateSize(new Object[]{1L})));
+        assertThat(SpillRowCodec.estimateSize("foo_bar_baz"), greaterThan(SpillRowCodec.estimateSize("foo")));
+    }
+    
+    private Object writeAndRead(final Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            SpillRowCodec.write(output, value);
+        }
+        return SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
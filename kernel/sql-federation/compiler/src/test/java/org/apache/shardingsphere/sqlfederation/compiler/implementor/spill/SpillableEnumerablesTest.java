@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableEnumerablesTest {
+    
+    @Test
+    void assertSortWithSpill() {
+        List<Object[]> rows = new ArrayList<>(300);
+        for (int i = 0; i < 300; i++) {
+            rows.add(new Object[]{i * 7 % 100, i});
+        }
+        long spillCount = SpillStatistics.getInstance().getSpillCount(SpillOperatorType.SORT);
+        SpillMemoryBudget budget = new SpillMemoryBudget(1L);
+        List<Object[]> actual = SpillableEnumerables.sort(createDataContext(budget), Linq4j.asEnumerable(rows), Comparator.comparingInt(each -> (Integer) each[0])).toList();
+        List<Object[]> expected = new ArrayList<>(rows);
+        expected.sort(Comparator.comparingInt(each -> (Integer) each[0]));
+        assertThat(toStrings(actual), is(toStrings(expected)));
+        assertThat(SpillStatistics.getInstance().getSpillCount(SpillOperatorType.SORT), greaterThan(spillCount));
+        assertThat(budget.getReservedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertInnerHashJoinWithSpill() {
+        assertHashJoinWithSpill(false, false);
+    }
+    
+    @Test
+    void assertLeftHashJoinWithSpill() {
+        assertHashJoinWithSpill(false, true);
+    }
+    
+    @Test
+    void assertRightHashJoinWithSpill() {
+        assertHashJoinWithSpill(true, false);
+    }
+    
+    @Test
+    void assertFullHashJoinWithSpill() {
+        assertHashJoinWithSpill(true, true);
+    }
+    
+    private void assertHashJoinWithSpill(final boolean generateNullsOnLeft, final boolean generateNullsOnRight) {
+        List<Object[]> leftRows = new ArrayList<>(200);
+        for (int i = 0; i < 200; i++) {
+            leftRows.add(new Object[]{i, 0 == i % 31 ? null : i % 50});
+        }
+        List<Object[]> rightRows = new ArrayList<>(150);
+        for (int i = 0; i < 150; i++) {
+            rightRows.add(new Object[]{0 == i % 37 ? null : i % 2 * 10, "foo_" + i});
+        }
+        long spillCount = SpillStatistics.getInstance().getSpillCount(SpillOperatorType.HASH_JOIN);
+        SpillMemoryBudget budget = new SpillMemoryBudget(1L);
+        List<String> actual = toStrings(hashJoin(budget, leftRows, rightRows, generateNullsOnLeft, generateNullsOnRight));
+        List<String> expected = toStrings(hashJoin(new SpillMemoryBudget(0L), leftRows, rightRows, generateNullsOnLeft, generateNullsOnRight));
+        if (generateNullsOnLeft) {
+            Collections.sort(actual);
+            Collections.sort(expected);
+        }
+        assertThat(actual, is(expected));
+        assertThat(SpillStatistics.getInstance().getSpillCount(SpillOperatorType.HASH_JOIN), greaterThan(spillCount));
+        assertThat(budget.getReservedBytes(), is(0L));
+    }
+    
+    private List<Object[]> hashJoin(final SpillMemoryBudget budget, final List<Object[]> leftRows, final List<Object[]> rightRows,
+                                    final boolean generateNullsOnLeft, final boolean generateNullsOnRight) {
+        Enumerable<Object[]> joined = SpillableEnumerables.hashJoin(createDataContext(budget), Linq4j.asEnumerable(leftRows), Linq4j.asEnumerable(rightRows),
+                new int[]{1}, new int[]{0}, 2, 2, generateNullsOnLeft, generateNullsOnRight);
+        return joined.toList();
+    }
+    
+    private DataContext createDataContext(final SpillMemoryBudget budget) {
+        DataContext result = mock(DataContext.class);
+        when(result.get(SpillMemoryBudget.DATA_CONTEXT_NAME)).thenReturn(budget);
+        return result;
+    }
+    
+    private List<String> toStrings(final List<Object[]> rows) {
+        return rows.stream().map(Arrays::toString).collect(Collectors.toList());
+    }
+}
@@ -197,8 +197,9 @@ public final class SQLFederationEngine implements AutoCloseable {
                     new ExecutionGroupReportContext(processId, currentDatabaseName, queryContext.getConnectionContext().getGrantee())), queryContext);
             SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
             CompilerContext compilerContext = sqlFederationRule.getCompilerContext();
+            boolean spillEnabled = federationContext.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_MEMORY_BUDGET_BYTES) > 0L;
             SQLFederationRelConverter converter = new SQLFederationRelConverter(compilerContext,
-                    getSchemaPath(sqlStatementContext), sqlStatementContext.getSqlStatement().getDatabaseType(), processor.getConvention());
+                    getSchemaPath(sqlStatementContext), sqlStatementContext.getSqlStatement().getDatabaseType(), processor.getConvention(), spillEnabled);
             schemaPlus = converter.getSchemaPlus();
             processor.prepare(prepareEngine, callback, currentDatabaseName, currentSchemaName, federationContext, compilerContext, schemaPlus);
             SQLFederationExecutionPlan executionPlan = compileQuery(converter, currentDatabaseName,
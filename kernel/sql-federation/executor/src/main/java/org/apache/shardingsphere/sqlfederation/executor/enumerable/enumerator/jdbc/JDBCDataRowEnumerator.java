@@ -21,7 +21,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
@@ -39,7 +38,9 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     
     private final MergedResult queryResult;
     
-    private final QueryResultMetaData metaData;
+    private final int columnCount;
+    
+    private final Collection<AutoCloseable> executionResources;
     
     private final Collection<Statement> statements;
     
@@ -65,11 +66,11 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     }
     
     private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
+        Object[] rowValues = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
             rowValues[i] = getValue(i);
         }
-        currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        currentRow = 1 == columnCount ? rowValues[0] : rowValues;
     }
     
     private Object getValue(final int index) throws SQLException {
@@ -83,6 +84,7 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     
     @Override
     public void close() {
+        closeExecutionResources();
         try {
             for (Statement each : statements) {
                 each.close();
@@ -92,4 +94,11 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
             throw new SQLWrapperException(ex);
         }
     }
+    
+    @SneakyThrows(Exception.class)
+    private void closeExecutionResources() {
+        for (AutoCloseable each : executionResources) {
+            each.close();
+        }
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDBC prefetch query result.
+ *
+ * <p>A worker drains the rows of the delegated query result into a bounded buffer, so that shards are fetched in parallel
+ * while the federation engine consumes rows. The delegated query result must not be used by others after prefetch started.</p>
+ *
+ * <p>Values are prefetched with {@code Object.class}, so the type and calendar passed to {@link #getValue(int, Class)} and {@link #getCalendarValue(int, Class, Calendar)}
+ * are ignored and the values are returned as the JDBC driver provides them.</p>
+ */
+public final class JDBCPrefetchQueryResult implements QueryResult {
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("SQLFederation-Prefetch-%d"));
+    
+    private static final Object[] END_OF_ROWS = new Object[0];
+    
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    
+    private final QueryResult queryResult;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final BlockingQueue<Object[]> rows;
+    
+    private final Future<Void> prefetchFuture;
+    
+    private final AtomicBoolean prefetchStarted = new AtomicBoolean();
+    
+    private final CountDownLatch prefetchFinishedLatch = new CountDownLatch(1);
+    
+    private volatile boolean closed;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public JDBCPrefetchQueryResult(final QueryResult queryResult, final int prefetchRows) throws SQLException {
+        this.queryResult = queryResult;
+        metaData = queryResult.getMetaData();
+        columnCount = metaData.getColumnCount();
+        rows = new ArrayBlockingQueue<>(prefetchRows);
+        prefetchFuture = PREFETCH_EXECUTOR.submit(this::prefetch);
+    }
+    
+    private Void prefetch() throws SQLException, InterruptedException {
+        if (!prefetchStarted.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            while (!closed && queryResult.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    Object value = queryResult.getValue(i + 1, Object.class);
+                    row[i] = queryResult.wasNull() ? null : value;
+                }
+                rows.put(row);
+            }
+            rows.put(END_OF_ROWS);
+            return null;
+        } finally {
+            prefetchFinishedLatch.countDown();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (END_OF_ROWS == currentRow) {
+            return false;
+        }
+        currentRow = takeRow();
+        return END_OF_ROWS != currentRow;
+    }
+    
+    private Object[] takeRow() throws SQLException {
+        try {
+            Object[] result = rows.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            while (null == result) {
+                if (prefetchFuture.isDone()) {
+                    result = rows.poll();
+                    if (null == result) {
+                        checkPrefetchFailure();
+                        return END_OF_ROWS;
+                    }
+                } else {
+                    result = rows.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        }
+    }
+    
+    private void checkPrefetchFailure() throws SQLException, InterruptedException {
+        try {
+            prefetchFuture.get();
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        return null == value ? null : new ByteArrayInputStream(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (value instanceof Clob) {
+            return ((Clob) value).getCharacterStream();
+        }
+        return null == value ? null : new StringReader(value.toString());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        prefetchFuture.cancel(true);
+        rows.clear();
+        if (prefetchStarted.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            prefetchFinishedLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        } finally {
+            rows.clear();
+        }
+    }
+}
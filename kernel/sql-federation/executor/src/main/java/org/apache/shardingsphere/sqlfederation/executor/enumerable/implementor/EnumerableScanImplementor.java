@@ -22,12 +22,16 @@ import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectDriverQuerySystemCatalogOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
@@ -38,6 +42,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -55,6 +60,7 @@ import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplemen
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.JDBCDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.JDBCPrefetchQueryResult;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryTableStatisticsBuilder;
 
@@ -66,8 +72,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enumerable scan implementor.
@@ -83,6 +90,8 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private final Map<String, Statistic> statistics = new ConcurrentHashMap<>();
+    
     @Override
     public Enumerable<Object> implement(final ShardingSphereTable table, final ScanImplementorContext scanContext) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
@@ -98,6 +107,32 @@ public final class EnumerableScanImplementor implements ScanImplementor {
         return createJDBCEnumerable(scanQueryContext, queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName()), executionContext);
     }
     
+    @Override
+    public Statistic getStatistic(final String schemaName, final ShardingSphereTable table) {
+        return statistics.computeIfAbsent(schemaName + "." + table.getName(), key -> buildStatistic(schemaName, table));
+    }
+    
+    private Statistic buildStatistic(final String schemaName, final ShardingSphereTable table) {
+        ShardingSphereMetaData metaData = queryContext.getMetaData();
+        if (containsTable(metaData.getDatabase(executorContext.getCurrentDatabaseName()), schemaName, table)) {
+            return createStatistic(metaData.getDatabase(executorContext.getCurrentDatabaseName()), schemaName, table);
+        }
+        for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
+            if (containsTable(each, schemaName, table)) {
+                return createStatistic(each, schemaName, table);
+            }
+        }
+        return Statistics.UNKNOWN;
+    }
+    
+    private boolean containsTable(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table) {
+        return null != database && database.containsSchema(schemaName) && database.getSchema(schemaName).containsTable(table.getName());
+    }
+    
+    private Statistic createStatistic(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table) {
+        return SQLFederationStatisticBuilder.build(database, executorContext.getStatistics().getDatabaseStatistics(database.getName()), schemaName, table);
+    }
+    
     private boolean containsSystemSchema(final SQLStatementContext sqlStatementContext) {
         Collection<String> usedSchemaNames = sqlStatementContext.getTablesContext().getSchemaNames();
         Collection<String> systemSchemas = new SystemDatabase(sqlStatementContext.getSqlStatement().getDatabaseType()).getSystemSchemas();
@@ -120,16 +155,49 @@ public final class EnumerableScanImplementor implements ScanImplementor {
                 setParameters(executionGroupContext.getInputGroups());
                 ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
                 processEngine.executeSQL(executionGroupContext, queryContext);
-                List<QueryResult> queryResults =
-                        executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+                Collection<AutoCloseable> executionResources = new LinkedList<>();
+                List<QueryResult> queryResults = prefetch(executeQuery(executionGroupContext, executionResources), executionResources);
                 MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(), queryContext.getConnectionContext());
                 MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
                 Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return new JDBCDataRowEnumerator(mergedResult, getColumnCount(queryContext.getSqlStatementContext(), queryResults.get(0)), executionResources, statements);
             }
         };
     }
     
+    private List<QueryResult> prefetch(final List<QueryResult> queryResults, final Collection<AutoCloseable> executionResources) throws SQLException {
+        int prefetchRows = queryContext.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SCAN_PREFETCH_ROWS);
+        if (prefetchRows <= 0) {
+            return queryResults;
+        }
+        List<QueryResult> result = new ArrayList<>();
+        for (QueryResult each : queryResults) {
+            if (each instanceof AbstractStreamQueryResult) {
+                JDBCPrefetchQueryResult prefetchQueryResult = new JDBCPrefetchQueryResult(each, prefetchRows);
+                executionResources.add(prefetchQueryResult);
+                result.add(prefetchQueryResult);
+            } else {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private int getColumnCount(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).containsDerivedProjections()
+                ? ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getExpandProjections().size()
+                : queryResultSample.getMetaData().getColumnCount();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<QueryResult> executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final Collection<AutoCloseable> executionResources) throws SQLException {
+        List<QueryResult> result = (List<QueryResult>) executorContext.getJdbcExecutor().executeInCompletionOrder(executionGroupContext, executorContext.getCallback());
+        if (result instanceof AutoCloseable) {
+            executionResources.add((AutoCloseable) result);
+        }
+        return result;
+    }
+    
     private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext executionContext) throws SQLException {
         // TODO pass grantee from proxy and jdbc adapter
         return executorContext.getPrepareEngine().prepare(database.getName(), executionContext.getRouteContext(), executorContext.getConnectionOffsets(), executionContext.getExecutionUnits(),
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.RowStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic builder.
+ *
+ * <p>Builds statistic of logic table from the estimated row count of each data node in {@code shardingsphere.table_statistics}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticBuilder {
+    
+    private static final String STATISTICS_SCHEMA_NAME = "shardingsphere";
+    
+    private static final String STATISTICS_TABLE_NAME = "table_statistics";
+    
+    /**
+     * Build statistic.
+     *
+     * @param database database
+     * @param databaseStatistics database statistics
+     * @param schemaName schema name
+     * @param table table
+     * @return statistic
+     */
+    public static Statistic build(final ShardingSphereDatabase database, final DatabaseStatistics databaseStatistics, final String schemaName, final ShardingSphereTable table) {
+        if (null == databaseStatistics || !database.containsSchema(STATISTICS_SCHEMA_NAME) || !database.getSchema(STATISTICS_SCHEMA_NAME).containsTable(STATISTICS_TABLE_NAME)) {
+            return Statistics.UNKNOWN;
+        }
+        SchemaStatistics schemaStatistics = databaseStatistics.getSchemaStatistics(STATISTICS_SCHEMA_NAME);
+        TableStatistics tableStatistics = null == schemaStatistics ? null : schemaStatistics.getTableStatistics(STATISTICS_TABLE_NAME);
+        return null == tableStatistics ? Statistics.UNKNOWN : build(database.getSchema(STATISTICS_SCHEMA_NAME), tableStatistics, schemaName, table);
+    }
+    
+    private static Statistic build(final ShardingSphereSchema statisticsSchema, final TableStatistics tableStatistics, final String schemaName, final ShardingSphereTable table) {
+        Map<String, Integer> columnIndexes = getColumnIndexes(statisticsSchema.getTable(STATISTICS_TABLE_NAME));
+        Collection<Long> rowCounts = new LinkedList<>();
+        for (RowStatistics each : tableStatistics.getRows()) {
+            List<Object> row = each.getRows();
+            if (schemaName.equalsIgnoreCase(getValue(row, columnIndexes, "schema_name")) && table.getName().equalsIgnoreCase(getValue(row, columnIndexes, "table_name"))) {
+                rowCounts.add(Long.parseLong(getValue(row, columnIndexes, "row_count")));
+            }
+        }
+        return rowCounts.isEmpty() ? Statistics.UNKNOWN : Statistics.of(rowCounts.stream().mapToLong(Long::longValue).sum(), Collections.emptyList());
+    }
+    
+    private static Map<String, Integer> getColumnIndexes(final ShardingSphereTable statisticsTable) {
+        Map<String, Integer> result = new CaseInsensitiveMap<>();
+        int index = 0;
+        for (ShardingSphereColumn each : statisticsTable.getAllColumns()) {
+            result.put(each.getName(), index++);
+        }
+        return result;
+    }
+    
+    private static String getValue(final List<Object> row, final Map<String, Integer> columnIndexes, final String columnName) {
+        return String.valueOf(row.get(columnIndexes.get(columnName)));
+    }
+}
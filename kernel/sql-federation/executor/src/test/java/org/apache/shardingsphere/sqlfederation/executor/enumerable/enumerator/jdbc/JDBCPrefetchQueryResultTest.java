@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDBCPrefetchQueryResultTest {
+    
+    @Test
+    void assertNext() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        when(queryResult.next()).thenReturn(true, true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        when(queryResult.getValue(2, Object.class)).thenReturn("foo", null, "bar");
+        when(queryResult.wasNull()).thenReturn(false, false, false, true, false, false);
+        JDBCPrefetchQueryResult actual = new JDBCPrefetchQueryResult(queryResult, 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertThat(actual.getValue(2, Object.class), is(nullValue()));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, Object.class), is("bar"));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithPrefetchFailure() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenReturn(true).thenThrow(new SQLException("foo_error"));
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        JDBCPrefetchQueryResult actual = new JDBCPrefetchQueryResult(queryResult, 16);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(assertThrows(SQLException.class, actual::next).getMessage(), is("foo_error"));
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsConsumed() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        JDBCPrefetchQueryResult actual = new JDBCPrefetchQueryResult(queryResult, 4);
+        assertTrue(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseWaitsForPrefetchFinished() throws SQLException, InterruptedException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        CountDownLatch fetchingLatch = new CountDownLatch(1);
+        AtomicBoolean fetchFinished = new AtomicBoolean();
+        when(queryResult.next()).thenAnswer(invocation -> {
+            fetchingLatch.countDown();
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100L);
+            while (System.nanoTime() < deadlineNanos) {
+                Thread.yield();
+            }
+            fetchFinished.set(true);
+            return false;
+        });
+        JDBCPrefetchQueryResult actual = new JDBCPrefetchQueryResult(queryResult, 4);
+        assertTrue(fetchingLatch.await(10L, TimeUnit.SECONDS));
+        actual.close();
+        assertTrue(fetchFinished.get());
+    }
+}
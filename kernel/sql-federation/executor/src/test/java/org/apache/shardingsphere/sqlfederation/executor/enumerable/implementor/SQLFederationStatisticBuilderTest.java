@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
+
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.RowStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticBuilderTest {
+    
+    private final ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+            new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+            new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+    
+    @Test
+    void assertBuildWithoutStatistics() {
+        assertThat(SQLFederationStatisticBuilder.build(mockDatabase(), null, "foo_db", table), is(Statistics.UNKNOWN));
+        assertThat(SQLFederationStatisticBuilder.build(mockDatabase(), new DatabaseStatistics(), "foo_db", table), is(Statistics.UNKNOWN));
+    }
+    
+    @Test
+    void assertBuild() {
+        TableStatistics tableStatistics = new TableStatistics("table_statistics");
+        tableStatistics.getRows().add(createRowStatistics("t_order", "ds_0", "t_order_0", 100L));
+        tableStatistics.getRows().add(createRowStatistics("t_order", "ds_1", "t_order_1", 50L));
+        tableStatistics.getRows().add(createRowStatistics("t_order_item", "ds_0", "t_order_item_0", 1000L));
+        SchemaStatistics schemaStatistics = new SchemaStatistics();
+        schemaStatistics.putTableStatistics("table_statistics", tableStatistics);
+        DatabaseStatistics databaseStatistics = new DatabaseStatistics();
+        databaseStatistics.putSchemaStatistics("shardingsphere", schemaStatistics);
+        Statistic actual = SQLFederationStatisticBuilder.build(mockDatabase(), databaseStatistics, "foo_db", table);
+        assertThat(actual.getRowCount(), is(150D));
+        assertThat(actual.getKeys(), is(Collections.emptyList()));
+    }
+    
+    private RowStatistics createRowStatistics(final String tableName, final String dataSourceName, final String actualTableName, final long rowCount) {
+        return new RowStatistics(Arrays.asList("foo_db", tableName, dataSourceName, actualTableName, rowCount));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereTable statisticsTable = new ShardingSphereTable("table_statistics", Stream.of("schema_name", "table_name", "data_source_name", "actual_table_name", "row_count")
+                .map(each -> new ShardingSphereColumn(each, Types.VARCHAR, false, false, false, true, false, false)).collect(Collectors.toList()), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.containsSchema("shardingsphere")).thenReturn(true);
+        when(result.getSchema("shardingsphere")).thenReturn(new ShardingSphereSchema("shardingsphere", Collections.singleton(statisticsTable), Collections.emptyList()));
+        return result;
+    }
+}
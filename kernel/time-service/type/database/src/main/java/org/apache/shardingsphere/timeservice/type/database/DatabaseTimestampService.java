@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.timeservice.type.database;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
@@ -34,26 +36,109 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Database timestamp service.
+ *
+ * <p>When {@code sync-interval-milliseconds} is positive, the database time is loaded once per interval and extrapolated with {@link System#nanoTime()} in between,
+ * timestamps returned by extrapolation never go backwards. A synchronization which finds that the extrapolated time drifted from the database time
+ * more than {@code max-drift-milliseconds} marks the local clock as drifted, and with {@code strict-enabled} every timestamp is loaded from the database
+ * until a later synchronization finds the drift bounded again.</p>
  */
 public final class DatabaseTimestampService implements TimestampService {
     
+    private static final String SYNC_INTERVAL_MILLISECONDS_KEY = "sync-interval-milliseconds";
+    
+    private static final String MAX_DRIFT_MILLISECONDS_KEY = "max-drift-milliseconds";
+    
+    private static final String STRICT_ENABLED_KEY = "strict-enabled";
+    
+    private static final long DEFAULT_MAX_DRIFT_MILLISECONDS = 1000L;
+    
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long NANOS_PER_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private final AtomicBoolean synchronizing = new AtomicBoolean();
+    
+    private final AtomicLong lastEpochNanos = new AtomicLong(Long.MIN_VALUE);
+    
     private DataSource dataSource;
     
     private DatabaseType storageType;
     
+    private long syncIntervalNanos;
+    
+    private long maxDriftNanos;
+    
+    private boolean strictEnabled;
+    
+    private volatile TimestampAnchor anchor;
+    
     @Override
     public void init(final Properties props) {
+        Properties dataSourceProps = new Properties();
+        dataSourceProps.putAll(props);
+        syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(removeProperty(dataSourceProps, SYNC_INTERVAL_MILLISECONDS_KEY, "0")));
+        maxDriftNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(removeProperty(dataSourceProps, MAX_DRIFT_MILLISECONDS_KEY, String.valueOf(DEFAULT_MAX_DRIFT_MILLISECONDS))));
+        strictEnabled = Boolean.parseBoolean(removeProperty(dataSourceProps, STRICT_ENABLED_KEY, Boolean.FALSE.toString()));
         dataSource = DataSourcePoolCreator.create(new YamlDataSourceConfigurationSwapper().swapToDataSourcePoolProperties(
-                props.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue))));
+                dataSourceProps.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue))));
         storageType = DatabaseTypeEngine.getStorageType(dataSource);
     }
     
+    private String removeProperty(final Properties props, final String key, final String defaultValue) {
+        Object result = props.remove(key);
+        return null == result ? defaultValue : result.toString();
+    }
+    
     @Override
     public Timestamp getTimestamp() {
+        if (syncIntervalNanos <= 0L) {
+            return loadTimestamp();
+        }
+        TimestampAnchor current = anchor;
+        if (null == current || strictEnabled && current.isDrifted()) {
+            current = synchronize(current);
+        } else if (System.nanoTime() - current.getNanoTime() >= syncIntervalNanos && synchronizing.compareAndSet(false, true)) {
+            try {
+                current = synchronize(current);
+            } finally {
+                synchronizing.set(false);
+            }
+        }
+        if (strictEnabled && current.isDrifted()) {
+            lastEpochNanos.set(current.getEpochNanos());
+            return toTimestamp(current.getEpochNanos());
+        }
+        return toTimestamp(lastEpochNanos.accumulateAndGet(current.extrapolate(System.nanoTime()), Math::max));
+    }
+    
+    private TimestampAnchor synchronize(final TimestampAnchor previous) {
+        long beginNanoTime = System.nanoTime();
+        long epochNanos = toEpochNanos(loadTimestamp());
+        long nanoTime = beginNanoTime + (System.nanoTime() - beginNanoTime) / 2L;
+        boolean drifted = null != previous && Math.abs(previous.extrapolate(nanoTime) - epochNanos) > maxDriftNanos;
+        TimestampAnchor result = new TimestampAnchor(epochNanos, nanoTime, drifted);
+        anchor = result;
+        return result;
+    }
+    
+    private long toEpochNanos(final Timestamp timestamp) {
+        return Math.floorDiv(timestamp.getTime(), 1000L) * NANOS_PER_SECOND + timestamp.getNanos();
+    }
+    
+    private Timestamp toTimestamp(final long epochNanos) {
+        Timestamp result = new Timestamp(Math.floorDiv(epochNanos, NANOS_PER_MILLISECOND));
+        result.setNanos((int) Math.floorMod(epochNanos, NANOS_PER_SECOND));
+        return result;
+    }
+    
+    private Timestamp loadTimestamp() {
         try {
             return loadDatetime(dataSource, DatabaseTypedSPILoader.getService(TimestampLoadingSQLProvider.class, storageType).getTimestampLoadingSQL());
         } catch (final SQLException ex) {
@@ -76,4 +161,19 @@ public final class DatabaseTimestampService implements TimestampService {
     public String getType() {
         return "Database";
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TimestampAnchor {
+        
+        private final long epochNanos;
+        
+        private final long nanoTime;
+        
+        private final boolean drifted;
+        
+        private long extrapolate(final long currentNanoTime) {
+            return epochNanos + currentNanoTime - nanoTime;
+        }
+    }
 }
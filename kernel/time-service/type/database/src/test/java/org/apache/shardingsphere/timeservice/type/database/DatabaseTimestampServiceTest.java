@@ -29,11 +29,16 @@ import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -43,13 +48,18 @@ class DatabaseTimestampServiceTest {
     
     @BeforeEach
     void setUp() {
+        timestampService = createTimestampService();
+    }
+    
+    private TimestampService createTimestampService(final Property... extraProps) {
         Properties props = PropertiesBuilder.build(
                 new Property("dataSourceClassName", "com.zaxxer.hikari.HikariDataSource"),
                 new Property("jdbcUrl", "jdbc:h2:mem:foo_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL"),
                 new Property("username", "sa"),
                 new Property("password", ""),
                 new Property("maximumPoolSize", "1"));
-        timestampService = TypedSPILoader.getService(TimestampService.class, "Database", props);
+        props.putAll(PropertiesBuilder.build(extraProps));
+        return TypedSPILoader.getService(TimestampService.class, "Database", props);
     }
     
     @Test
@@ -65,4 +75,45 @@ class DatabaseTimestampServiceTest {
         Plugins.getMemberAccessor().set(DatabaseTimestampService.class.getDeclaredField("dataSource"), timestampService, new MockedDataSource(connection));
         assertThrows(DatetimeLoadingException.class, () -> timestampService.getTimestamp().getTime());
     }
+    
+    @Test
+    void assertGetTimestampWithSyncInterval() throws ReflectiveOperationException, SQLException {
+        TimestampService actual = createTimestampService(new Property("sync-interval-milliseconds", "60000"));
+        Timestamp first = actual.getTimestamp();
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(any())).thenThrow(new SQLException(""));
+        Plugins.getMemberAccessor().set(DatabaseTimestampService.class.getDeclaredField("dataSource"), actual, new MockedDataSource(connection));
+        Timestamp second = actual.getTimestamp();
+        assertFalse(second.before(first));
+        assertFalse(actual.getTimestamp().before(second));
+    }
+    
+    @Test
+    void assertGetTimestampWithDriftedClock() throws ReflectiveOperationException, SQLException, InterruptedException {
+        Timestamp databaseTimestamp = new Timestamp(System.currentTimeMillis());
+        Timestamp driftedDatabaseTimestamp = new Timestamp(databaseTimestamp.getTime() - 10000L);
+        TimestampService actual = createTimestampService(new Property("sync-interval-milliseconds", "1"), new Property("max-drift-milliseconds", "1000"));
+        Plugins.getMemberAccessor().set(DatabaseTimestampService.class.getDeclaredField("dataSource"), actual, new MockedDataSource(mockConnection(databaseTimestamp, driftedDatabaseTimestamp)));
+        Timestamp first = actual.getTimestamp();
+        Thread.sleep(2L);
+        assertFalse(actual.getTimestamp().before(first));
+    }
+    
+    @Test
+    void assertGetTimestampWithDriftedClockInStrictMode() throws ReflectiveOperationException, SQLException, InterruptedException {
+        Timestamp databaseTimestamp = new Timestamp(System.currentTimeMillis());
+        Timestamp driftedDatabaseTimestamp = new Timestamp(databaseTimestamp.getTime() - 10000L);
+        TimestampService actual = createTimestampService(
+                new Property("sync-interval-milliseconds", "1"), new Property("max-drift-milliseconds", "1000"), new Property("strict-enabled", Boolean.TRUE.toString()));
+        Plugins.getMemberAccessor().set(DatabaseTimestampService.class.getDeclaredField("dataSource"), actual, new MockedDataSource(mockConnection(databaseTimestamp, driftedDatabaseTimestamp)));
+        assertFalse(actual.getTimestamp().before(databaseTimestamp));
+        Thread.sleep(2L);
+        assertThat(actual.getTimestamp(), is(driftedDatabaseTimestamp));
+    }
+    
+    private Connection mockConnection(final Timestamp timestamp, final Timestamp... nextTimestamps) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.prepareStatement(any()).executeQuery().getObject(1)).thenReturn(timestamp, (Object[]) nextTimestamps);
+        return result;
+    }
 }
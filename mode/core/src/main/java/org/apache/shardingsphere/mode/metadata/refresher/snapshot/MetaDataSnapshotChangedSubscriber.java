@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.refresher.snapshot;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot.MetaDataSnapshotChangedEvent;
+import org.apache.shardingsphere.infra.util.eventbus.EventSubscriber;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Meta data snapshot changed subscriber.
+ *
+ * <p>It reloads databases whose table meta data was built from changed snapshots, which is the same as refreshing table meta data of the databases.
+ * Snapshots may be validated before the context manager is built, so changed databases are kept until the context manager is bound.</p>
+ */
+public final class MetaDataSnapshotChangedSubscriber implements EventSubscriber {
+    
+    private final Collection<String> pendingDatabaseNames = new LinkedHashSet<>();
+    
+    private ContextManager contextManager;
+    
+    /**
+     * Bind context manager and reload changed databases.
+     *
+     * @param contextManager context manager
+     */
+    public synchronized void bind(final ContextManager contextManager) {
+        this.contextManager = contextManager;
+        pendingDatabaseNames.forEach(this::reloadDatabase);
+        pendingDatabaseNames.clear();
+    }
+    
+    /**
+     * Reload database.
+     *
+     * @param event meta data snapshot changed event
+     */
+    @Subscribe
+    public synchronized void reload(final MetaDataSnapshotChangedEvent event) {
+        if (null == contextManager) {
+            pendingDatabaseNames.add(event.getDatabaseName());
+        } else {
+            reloadDatabase(event.getDatabaseName());
+        }
+    }
+    
+    private void reloadDatabase(final String databaseName) {
+        ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
+        if (metaData.containsDatabase(databaseName)) {
+            contextManager.reloadDatabase(metaData.getDatabase(databaseName));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.refresher.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot.MetaDataSnapshotChangedEvent;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MetaDataSnapshotChangedSubscriberTest {
+    
+    private final ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+    
+    @Test
+    void assertReloadBeforeBound() {
+        when(contextManager.getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        MetaDataSnapshotChangedSubscriber subscriber = new MetaDataSnapshotChangedSubscriber();
+        subscriber.reload(new MetaDataSnapshotChangedEvent("foo_db"));
+        verify(contextManager, never()).reloadDatabase(any());
+        subscriber.bind(contextManager);
+        verify(contextManager).reloadDatabase(database);
+    }
+    
+    @Test
+    void assertReloadAfterBound() {
+        when(contextManager.getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+        MetaDataSnapshotChangedSubscriber subscriber = new MetaDataSnapshotChangedSubscriber();
+        subscriber.bind(contextManager);
+        subscriber.reload(new MetaDataSnapshotChangedEvent("foo_db"));
+        verify(contextManager).reloadDatabase(database);
+    }
+    
+    @Test
+    void assertReloadWithDroppedDatabase() {
+        MetaDataSnapshotChangedSubscriber subscriber = new MetaDataSnapshotChangedSubscriber();
+        subscriber.bind(contextManager);
+        subscriber.reload(new MetaDataSnapshotChangedEvent("foo_db"));
+        verify(contextManager, never()).reloadDatabase(any());
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.mode.manager.standalone.workerid.StandaloneWork
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.factory.MetaDataContextsFactory;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistFacade;
+import org.apache.shardingsphere.mode.metadata.refresher.snapshot.MetaDataSnapshotChangedSubscriber;
 import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
 
 import java.sql.SQLException;
@@ -49,8 +50,12 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         StandalonePersistRepository repository = TypedSPILoader.getService(
                 StandalonePersistRepository.class, null == repositoryConfig ? null : repositoryConfig.getType(), null == repositoryConfig ? new Properties() : repositoryConfig.getProps());
         ExclusiveOperatorEngine exclusiveOperatorEngine = new ExclusiveOperatorEngine(new StandaloneExclusiveOperatorContext());
+        MetaDataSnapshotChangedSubscriber snapshotChangedSubscriber = new MetaDataSnapshotChangedSubscriber();
+        eventBusContext.register(snapshotChangedSubscriber);
         MetaDataContexts metaDataContexts = new MetaDataContextsFactory(new MetaDataPersistFacade(repository), computeNodeInstanceContext).create(param);
-        return new ContextManager(metaDataContexts, computeNodeInstanceContext, repository, exclusiveOperatorEngine);
+        ContextManager result = new ContextManager(metaDataContexts, computeNodeInstanceContext, repository, exclusiveOperatorEngine);
+        snapshotChangedSubscriber.bind(result);
+        return result;
     }
     
     @Override
@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedHashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.CachedConnections;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
@@ -42,6 +41,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -61,7 +61,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     
     private final ConnectionSession connectionSession;
     
-    private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+    private final CachedConnections cachedConnections = new CachedConnections();
     
     private final Collection<ProxyBackendHandler> backendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
@@ -83,39 +83,27 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionOffset, final int connectionSize,
                                            final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(databaseName, "Current database name is null.");
-        Collection<Connection> connections;
-        String cacheKey = getKey(databaseName, dataSourceName);
-        synchronized (cachedConnections) {
-            connections = cachedConnections.get(cacheKey);
-        }
+        Connection[] connections = cachedConnections.get(databaseName, dataSourceName);
         List<Connection> result;
         int maxConnectionSize = connectionOffset + connectionSize;
-        if (connections.size() >= maxConnectionSize) {
-            result = new ArrayList<>(connections).subList(connectionOffset, maxConnectionSize);
-        } else if (connections.isEmpty()) {
+        if (connections.length >= maxConnectionSize) {
+            result = Arrays.asList(connections).subList(connectionOffset, maxConnectionSize);
+        } else if (0 == connections.length) {
             Collection<Connection> newConnections = createNewConnections(databaseName, dataSourceName, maxConnectionSize, connectionMode);
             result = new ArrayList<>(newConnections).subList(connectionOffset, maxConnectionSize);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(cacheKey, newConnections);
-            }
+            cachedConnections.add(databaseName, dataSourceName, newConnections);
             executeTransactionHooksAfterCreateConnections(result);
         } else {
             List<Connection> allConnections = new ArrayList<>(maxConnectionSize);
-            allConnections.addAll(connections);
-            List<Connection> newConnections = createNewConnections(databaseName, dataSourceName, maxConnectionSize - connections.size(), connectionMode);
+            allConnections.addAll(Arrays.asList(connections));
+            List<Connection> newConnections = createNewConnections(databaseName, dataSourceName, maxConnectionSize - connections.length, connectionMode);
             allConnections.addAll(newConnections);
             result = allConnections.subList(connectionOffset, maxConnectionSize);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(cacheKey, newConnections);
-            }
+            cachedConnections.add(databaseName, dataSourceName, newConnections);
         }
         return result;
     }
     
-    private String getKey(final String databaseName, final String dataSourceName) {
-        return databaseName.toLowerCase() + "." + dataSourceName;
-    }
-    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void executeTransactionHooksAfterCreateConnections(final List<Connection> connections) throws SQLException {
         if (connectionSession.getTransactionStatus().isInTransaction()) {
@@ -198,17 +186,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
      * @return used data source names
      */
     public Collection<String> getUsedDataSourceNames() {
-        Collection<String> result = new ArrayList<>(cachedConnections.size());
-        String databaseName = connectionSession.getUsedDatabaseName().toLowerCase();
-        for (String each : cachedConnections.keySet()) {
-            String[] split = each.split("\\.", 2);
-            String cachedDatabaseName = split[0];
-            String cachedDataSourceName = split[1];
-            if (databaseName.equals(cachedDatabaseName)) {
-                result.add(cachedDataSourceName);
-            }
-        }
-        return result;
+        return cachedConnections.getDataSourceNames(connectionSession.getUsedDatabaseName());
     }
     
     /**
@@ -217,7 +195,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
      * @return connection size
      */
     public int getConnectionSize() {
-        return cachedConnections.values().size();
+        return cachedConnections.size();
     }
     
     /**
@@ -327,26 +305,24 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
-        synchronized (cachedConnections) {
-            resetSessionVariablesIfNecessary(cachedConnections.values(), result);
-            for (Connection each : cachedConnections.values()) {
+        Collection<Connection> connections = cachedConnections.removeAll();
+        resetSessionVariablesIfNecessary(connections, result);
+        for (Connection each : connections) {
+            try {
+                if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
+                    each.rollback();
+                }
+            } catch (final SQLException ignored) {
+            } finally {
                 try {
-                    if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
-                        each.rollback();
-                    }
-                } catch (final SQLException ignored) {
-                } finally {
-                    try {
-                        each.close();
-                    } catch (final SQLException ex) {
-                        if (!isClosed(each)) {
-                            log.warn("Close connection {} failed.", each, ex);
-                            result.add(ex);
-                        }
+                    each.close();
+                } catch (final SQLException ex) {
+                    if (!isClosed(each)) {
+                        log.warn("Close connection {} failed.", each, ex);
+                        result.add(ex);
                     }
                 }
             }
-            cachedConnections.clear();
         }
         if (!forceRollback) {
             connectionPostProcessors.clear();
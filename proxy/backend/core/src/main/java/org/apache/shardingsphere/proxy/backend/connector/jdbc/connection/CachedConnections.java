@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cached connections of connection session.
+ *
+ * <p>Connections of every data source are kept in an array slot, which is looked up by database name and data source name without building keys.
+ * Getting and appending connections need no locking, only registering the slot of a data source used for the first time is synchronized.
+ * Database names are case insensitive, and every spelling of a database name is mapped to the same slots once.
+ * Removed slots are detached, so connections added to a removed slot concurrently are added to a newly registered slot instead of being lost.</p>
+ */
+public final class CachedConnections {
+    
+    private static final Connection[] EMPTY_CONNECTIONS = new Connection[0];
+    
+    private static final Connection[] DETACHED_CONNECTIONS = new Connection[0];
+    
+    private static final ConnectionSlot[] EMPTY_SLOTS = new ConnectionSlot[0];
+    
+    private final Map<String, Map<String, ConnectionSlot>> databaseSlots = new ConcurrentHashMap<>();
+    
+    private volatile ConnectionSlot[] slots = EMPTY_SLOTS;
+    
+    /**
+     * Get cached connections.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return cached connections, which must not be modified
+     */
+    public Connection[] get(final String databaseName, final String dataSourceName) {
+        ConnectionSlot slot = findSlot(databaseName, dataSourceName);
+        return null == slot ? EMPTY_CONNECTIONS : slot.connections.get();
+    }
+    
+    /**
+     * Add connections.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param connections connections to be added
+     */
+    public void add(final String databaseName, final String dataSourceName, final Collection<Connection> connections) {
+        Connection[] addedConnections = connections.toArray(EMPTY_CONNECTIONS);
+        while (true) {
+            ConnectionSlot slot = findSlot(databaseName, dataSourceName);
+            AtomicReference<Connection[]> slotConnections = (null == slot ? registerSlot(databaseName, dataSourceName) : slot).connections;
+            Connection[] current = slotConnections.get();
+            if (DETACHED_CONNECTIONS != current && slotConnections.compareAndSet(current, concat(current, addedConnections))) {
+                return;
+            }
+        }
+    }
+    
+    private ConnectionSlot findSlot(final String databaseName, final String dataSourceName) {
+        Map<String, ConnectionSlot> dataSourceSlots = databaseSlots.get(databaseName);
+        if (null == dataSourceSlots) {
+            dataSourceSlots = findDataSourceSlotsIgnoreCase(databaseName);
+        }
+        return null == dataSourceSlots ? null : dataSourceSlots.get(dataSourceName);
+    }
+    
+    private synchronized Map<String, ConnectionSlot> findDataSourceSlotsIgnoreCase(final String databaseName) {
+        Map<String, ConnectionSlot> result = databaseSlots.get(databaseName.toLowerCase());
+        if (null != result) {
+            databaseSlots.put(databaseName, result);
+        }
+        return result;
+    }
+    
+    private synchronized ConnectionSlot registerSlot(final String databaseName, final String dataSourceName) {
+        String lowerCaseDatabaseName = databaseName.toLowerCase();
+        Map<String, ConnectionSlot> dataSourceSlots = databaseSlots.computeIfAbsent(lowerCaseDatabaseName, key -> new ConcurrentHashMap<>());
+        databaseSlots.putIfAbsent(databaseName, dataSourceSlots);
+        ConnectionSlot result = dataSourceSlots.get(dataSourceName);
+        if (null == result) {
+            result = new ConnectionSlot(lowerCaseDatabaseName, dataSourceName);
+            dataSourceSlots.put(dataSourceName, result);
+            ConnectionSlot[] newSlots = Arrays.copyOf(slots, slots.length + 1);
+            newSlots[slots.length] = result;
+            slots = newSlots;
+        }
+        return result;
+    }
+    
+    private Connection[] concat(final Connection[] connections, final Connection[] addedConnections) {
+        Connection[] result = Arrays.copyOf(connections, connections.length + addedConnections.length);
+        System.arraycopy(addedConnections, 0, result, connections.length, addedConnections.length);
+        return result;
+    }
+    
+    /**
+     * Get all cached connections.
+     *
+     * @return all cached connections in order of data sources used
+     */
+    public Collection<Connection> values() {
+        Collection<Connection> result = new ArrayList<>(size());
+        for (ConnectionSlot each : slots) {
+            result.addAll(Arrays.asList(each.connections.get()));
+        }
+        return result;
+    }
+    
+    /**
+     * Get data source names of cached connections.
+     *
+     * @param databaseName database name
+     * @return data source names
+     */
+    public Collection<String> getDataSourceNames(final String databaseName) {
+        Collection<String> result = new LinkedHashSet<>(slots.length, 1F);
+        String lowerCaseDatabaseName = databaseName.toLowerCase();
+        for (ConnectionSlot each : slots) {
+            if (lowerCaseDatabaseName.equals(each.databaseName) && 0 != each.connections.get().length) {
+                result.add(each.dataSourceName);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get size of all cached connections.
+     *
+     * @return size of all cached connections
+     */
+    public int size() {
+        int result = 0;
+        for (ConnectionSlot each : slots) {
+            result += each.connections.get().length;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether there are no cached connections.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+    
+    /**
+     * Remove all cached connections.
+     *
+     * @return removed connections in order of data sources used
+     */
+    public synchronized Collection<Connection> removeAll() {
+        ConnectionSlot[] removedSlots = slots;
+        databaseSlots.clear();
+        slots = EMPTY_SLOTS;
+        Collection<Connection> result = new ArrayList<>();
+        for (ConnectionSlot each : removedSlots) {
+            result.addAll(Arrays.asList(each.connections.getAndSet(DETACHED_CONNECTIONS)));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConnectionSlot {
+        
+        private final String databaseName;
+        
+        private final String dataSourceName;
+        
+        private final AtomicReference<Connection[]> connections = new AtomicReference<>(EMPTY_CONNECTIONS);
+    }
+}
@@ -17,11 +17,10 @@
 
 package org.apache.shardingsphere.proxy.backend.connector;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.CachedConnections;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.sql.Connection;
@@ -45,8 +44,8 @@ final class MockConnectionUtils {
      */
     @SneakyThrows(ReflectiveOperationException.class)
     static void setCachedConnections(final ProxyDatabaseConnectionManager databaseConnectionManager, final String dataSourceName, final int connectionSize) {
-        Multimap<String, Connection> cachedConnections = HashMultimap.create();
-        cachedConnections.putAll(databaseConnectionManager.getConnectionSession().getUsedDatabaseName() + "." + dataSourceName, mockNewConnections(connectionSize));
+        CachedConnections cachedConnections = new CachedConnections();
+        cachedConnections.add(databaseConnectionManager.getConnectionSession().getUsedDatabaseName(), dataSourceName, mockNewConnections(connectionSize));
         Plugins.getMemberAccessor().set(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager, cachedConnections);
     }
     
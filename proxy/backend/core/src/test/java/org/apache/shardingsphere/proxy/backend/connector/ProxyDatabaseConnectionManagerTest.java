@@ -17,11 +17,11 @@
 
 package org.apache.shardingsphere.proxy.backend.connector;
 
-import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -124,6 +124,7 @@ class ProxyDatabaseConnectionManagerTest {
         when(metaData.getAllDatabases()).thenReturn(Collections.singleton(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS)));
         when(metaData.getAllDatabases().iterator().next().getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE)).thenReturn(ExecutorThreadType.PLATFORM);
         when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED)).thenReturn(true);
         TransactionRule transactionRule = mock(TransactionRule.class);
         when(transactionRule.getDefaultType()).thenReturn(TransactionType.LOCAL);
@@ -191,16 +192,12 @@ class ProxyDatabaseConnectionManagerTest {
         Plugins.getMemberAccessor().set(ProxyDatabaseConnectionManager.class.getDeclaredField("connectionPostProcessors"), databaseConnectionManager, connectionPostProcessors);
     }
     
-    @SuppressWarnings("unchecked")
     @Test
-    void assertCloseConnectionsCorrectlyWhenNotForceRollback() throws ReflectiveOperationException, SQLException {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
+    void assertCloseConnectionsCorrectlyWhenNotForceRollback() throws SQLException {
         Connection connection = prepareCachedConnections();
-        cachedConnections.put("ignoredDataSourceName", connection);
         databaseConnectionManager.closeConnections(false);
         verify(connection).close();
-        assertTrue(cachedConnections.isEmpty());
+        assertTrue(databaseConnectionManager.getCachedConnections().isEmpty());
         verifyConnectionPostProcessorsEmpty();
     }
     
@@ -286,16 +283,11 @@ class ProxyDatabaseConnectionManagerTest {
         List<Connection> fetchedConnections = databaseConnectionManager.getConnections(connectionSession.getUsedDatabaseName(), "ds1", 0, 1, null);
         assertThat(fetchedConnections.size(), is(1));
         assertTrue(fetchedConnections.contains(connections.get(0)));
-        assertConnectionsCached(connectionSession.getUsedDatabaseName() + ".ds1", connections);
+        assertConnectionsCached("ds1", connections);
     }
     
-    @SuppressWarnings("unchecked")
-    @SneakyThrows(ReflectiveOperationException.class)
     private void assertConnectionsCached(final String dataSourceName, final Collection<Connection> connections) {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
-        assertTrue(cachedConnections.containsKey(dataSourceName));
-        assertArrayEquals(cachedConnections.get(dataSourceName).toArray(), connections.toArray());
+        assertArrayEquals(databaseConnectionManager.getCachedConnections().get(connectionSession.getUsedDatabaseName(), dataSourceName), connections.toArray());
     }
     
     @Test
@@ -422,13 +414,9 @@ class ProxyDatabaseConnectionManagerTest {
         verify(cachedConnection).rollback();
     }
     
-    @SuppressWarnings("unchecked")
-    @SneakyThrows(ReflectiveOperationException.class)
     private Connection prepareCachedConnections() {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
         Connection connection = mock(Connection.class);
-        cachedConnections.put("ignoredDataSourceName", connection);
+        databaseConnectionManager.getCachedConnections().add("", "ignoredDataSourceName", Collections.singleton(connection));
         return connection;
     }
     
@@ -437,7 +425,7 @@ class ProxyDatabaseConnectionManagerTest {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
-        databaseConnectionManager.getCachedConnections().put("", connection);
+        databaseConnectionManager.getCachedConnections().add("", "", Collections.singleton(connection));
         databaseConnectionManager.closeConnections(false);
         verify(connection.createStatement()).execute("RESET ALL");
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
@@ -449,7 +437,7 @@ class ProxyDatabaseConnectionManagerTest {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         SQLException expectedException = new SQLException("");
         when(connection.getMetaData().getDatabaseProductName()).thenThrow(expectedException);
-        databaseConnectionManager.getCachedConnections().put("", connection);
+        databaseConnectionManager.getCachedConnections().add("", "", Collections.singleton(connection));
         Collection<SQLException> actualExceptions = databaseConnectionManager.closeConnections(false);
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
@@ -461,16 +449,16 @@ class ProxyDatabaseConnectionManagerTest {
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
         SQLException expectedException = new SQLException("");
         when(connection.createStatement()).thenThrow(expectedException);
-        databaseConnectionManager.getCachedConnections().put("", connection);
+        databaseConnectionManager.getCachedConnections().add("", "", Collections.singleton(connection));
         Collection<SQLException> actualExceptions = databaseConnectionManager.closeConnections(false);
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
     
     @Test
     void assertGetDataSourceNamesOfCachedConnections() {
-        databaseConnectionManager.getCachedConnections().put(connectionSession.getUsedDatabaseName() + ".ds_0", null);
-        databaseConnectionManager.getCachedConnections().put(connectionSession.getUsedDatabaseName() + ".ds_1", null);
-        databaseConnectionManager.getCachedConnections().put(connectionSession.getUsedDatabaseName() + ".ds_2", null);
+        databaseConnectionManager.getCachedConnections().add(connectionSession.getUsedDatabaseName(), "ds_0", Collections.singleton(null));
+        databaseConnectionManager.getCachedConnections().add(connectionSession.getUsedDatabaseName(), "ds_1", Collections.singleton(null));
+        databaseConnectionManager.getCachedConnections().add(connectionSession.getUsedDatabaseName(), "ds_2", Collections.singleton(null));
         List<String> actual = new ArrayList<>(databaseConnectionManager.getUsedDataSourceNames());
         Collections.sort(actual);
         assertThat(actual, is(Arrays.asList("ds_0", "ds_1", "ds_2")));
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CachedConnectionsTest {
+    
+    @Test
+    void assertGetWithoutConnections() {
+        assertThat(new CachedConnections().get("foo_db", "foo_ds").length, is(0));
+    }
+    
+    @Test
+    void assertAdd() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection fooConnection = mock(Connection.class);
+        Connection barConnection = mock(Connection.class);
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(fooConnection));
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(barConnection));
+        assertThat(cachedConnections.get("foo_db", "foo_ds"), is(new Connection[]{fooConnection, barConnection}));
+        assertThat(cachedConnections.get("foo_db", "bar_ds").length, is(0));
+    }
+    
+    @Test
+    void assertGetWithCaseInsensitiveDatabaseName() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection fooConnection = mock(Connection.class);
+        Connection barConnection = mock(Connection.class);
+        cachedConnections.add("Foo_DB", "foo_ds", Collections.singleton(fooConnection));
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(barConnection));
+        assertThat(cachedConnections.get("FOO_DB", "foo_ds"), is(new Connection[]{fooConnection, barConnection}));
+        assertThat(cachedConnections.get("Foo_DB", "foo_ds"), is(new Connection[]{fooConnection, barConnection}));
+        assertThat(cachedConnections.size(), is(2));
+    }
+    
+    @Test
+    void assertValues() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection fooConnection = mock(Connection.class);
+        Connection barConnection = mock(Connection.class);
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(fooConnection));
+        cachedConnections.add("bar_db", "bar_ds", Collections.singleton(barConnection));
+        assertThat(cachedConnections.values(), is(Arrays.asList(fooConnection, barConnection)));
+    }
+    
+    @Test
+    void assertGetDataSourceNames() {
+        CachedConnections cachedConnections = new CachedConnections();
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(mock(Connection.class)));
+        cachedConnections.add("Foo_DB", "bar_ds", Collections.singleton(mock(Connection.class)));
+        cachedConnections.add("bar_db", "baz_ds", Collections.singleton(mock(Connection.class)));
+        assertThat(cachedConnections.getDataSourceNames("FOO_DB"), is(new LinkedHashSet<>(Arrays.asList("foo_ds", "bar_ds"))));
+    }
+    
+    @Test
+    void assertRemoveAll() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection fooConnection = mock(Connection.class);
+        Connection barConnection = mock(Connection.class);
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(fooConnection));
+        cachedConnections.add("bar_db", "bar_ds", Collections.singleton(barConnection));
+        assertThat(cachedConnections.removeAll(), is(Arrays.asList(fooConnection, barConnection)));
+        assertTrue(cachedConnections.isEmpty());
+        assertThat(cachedConnections.get("foo_db", "foo_ds").length, is(0));
+    }
+    
+    @Test
+    void assertAddAfterRemoveAll() {
+        CachedConnections cachedConnections = new CachedConnections();
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(mock(Connection.class)));
+        cachedConnections.removeAll();
+        Connection connection = mock(Connection.class);
+        cachedConnections.add("foo_db", "foo_ds", Collections.singleton(connection));
+        assertThat(cachedConnections.get("foo_db", "foo_ds"), is(new Connection[]{connection}));
+        assertThat(cachedConnections.removeAll(), is(Collections.singletonList(connection)));
+    }
+}
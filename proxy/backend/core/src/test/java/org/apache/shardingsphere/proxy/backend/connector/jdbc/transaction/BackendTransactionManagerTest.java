@@ -17,14 +17,13 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.CachedConnections;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
@@ -88,9 +87,9 @@ class BackendTransactionManagerTest {
         when(connectionContext.getTransactionContext()).thenReturn(context);
     }
     
-    private Multimap<String, Connection> mockCachedConnections() {
-        Multimap<String, Connection> result = HashMultimap.create();
-        result.putAll("ds1", Collections.singleton(connection));
+    private CachedConnections mockCachedConnections() {
+        CachedConnections result = new CachedConnections();
+        result.add("foo_db", "ds1", Collections.singleton(connection));
         return result;
     }
     
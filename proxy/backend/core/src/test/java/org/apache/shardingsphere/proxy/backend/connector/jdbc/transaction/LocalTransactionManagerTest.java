@@ -17,10 +17,9 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.CachedConnections;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -71,11 +70,11 @@ class LocalTransactionManagerTest {
         localTransactionManager = new LocalTransactionManager(databaseConnectionManager);
     }
     
-    private Multimap<String, Connection> setCachedConnections() {
-        Multimap<String, Connection> result = HashMultimap.create();
+    private CachedConnections setCachedConnections() {
+        CachedConnections result = new CachedConnections();
         List<Connection> connections = new ArrayList<>(1);
         connections.add(connection);
-        result.putAll("ds1", connections);
+        result.add("foo_db", "ds1", connections);
         return result;
     }
     
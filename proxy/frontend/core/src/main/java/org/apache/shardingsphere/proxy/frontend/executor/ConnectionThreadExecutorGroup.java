@@ -19,13 +19,20 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Connection thread executor group.
@@ -33,15 +40,22 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * With virtual thread type, each connection owns one virtual thread which executes all of its commands,
+ * so idle connections only hold parked virtual threads instead of platform threads.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final Collection<Integer> virtualThreadConnectionIds = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicBoolean virtualThreadUnsupportedWarned = new AtomicBoolean();
+    
     /**
      * Get connection thread executor group.
      *
@@ -57,9 +71,35 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
+        register(connectionId, ExecutorThreadType.PLATFORM);
+    }
+    
+    /**
+     * Register connection with thread type.
+     *
+     * @param connectionId connection id
+     * @param threadType thread type, virtual thread falls back to platform thread if it is not supported by current JVM
+     */
+    public void register(final int connectionId, final ExecutorThreadType threadType) {
+        if (ExecutorThreadType.VIRTUAL == threadType) {
+            Optional<ExecutorService> executorService = newVirtualThreadExecutorService(connectionId);
+            if (executorService.isPresent()) {
+                executorServices.put(connectionId, executorService.get());
+                virtualThreadConnectionIds.add(connectionId);
+                return;
+            }
+            if (virtualThreadUnsupportedWarned.compareAndSet(false, true)) {
+                log.warn("Virtual thread is not supported by current JVM, fall back to platform thread for connections.");
+            }
+        }
         executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
     }
     
+    private Optional<ExecutorService> newVirtualThreadExecutorService(final int connectionId) {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(String.format("Connection-%d-ThreadExecutor-", connectionId));
+        return threadFactory.map(optional -> new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), optional));
+    }
+    
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
         return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
     }
@@ -74,12 +114,23 @@ public final class ConnectionThreadExecutorGroup {
         return executorServices.get(connectionId);
     }
     
+    /**
+     * Judge whether connection is executed by virtual thread.
+     *
+     * @param connectionId connection id
+     * @return connection is executed by virtual thread or not
+     */
+    public boolean isVirtualThread(final int connectionId) {
+        return virtualThreadConnectionIds.contains(connectionId);
+    }
+    
     /**
      * Unregister connection and await termination.
      *
      * @param connectionId connection id
      */
     public void unregisterAndAwaitTermination(final int connectionId) {
+        virtualThreadConnectionIds.remove(connectionId);
         ExecutorService executorService = executorServices.remove(connectionId);
         if (null == executorService) {
             return;
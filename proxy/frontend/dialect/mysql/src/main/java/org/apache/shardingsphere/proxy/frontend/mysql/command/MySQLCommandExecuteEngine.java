@@ -18,15 +18,18 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLEncodedRowsPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -37,6 +40,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrorPacketFactory;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 
 /**
@@ -70,8 +74,19 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int flushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        if (flushBytesThreshold > 0) {
+            writeEncodedRows(context, databaseConnectionManager, queryCommandExecutor, flushBytesThreshold);
+        } else {
+            writeRows(context, databaseConnectionManager, queryCommandExecutor, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD));
+        }
+        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession(), true)));
+    }
+    
+    private void writeRows(final ChannelHandlerContext context,
+                           final ProxyDatabaseConnectionManager databaseConnectionManager, final QueryCommandExecutor queryCommandExecutor, final int flushThreshold) throws SQLException {
         int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             count++;
             databaseConnectionManager.getConnectionResourceLock().doAwait(context);
@@ -82,6 +97,36 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
                 count = 0;
             }
         }
-        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession(), true)));
+    }
+    
+    private void writeEncodedRows(final ChannelHandlerContext context,
+                                  final ProxyDatabaseConnectionManager databaseConnectionManager, final QueryCommandExecutor queryCommandExecutor, final int flushBytesThreshold) throws SQLException {
+        Charset charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        MySQLEncodedRowsPacket encodedRows = null;
+        try {
+            while (queryCommandExecutor.next()) {
+                databaseConnectionManager.getConnectionResourceLock().doAwait(context);
+                MySQLPacket rowPacket = (MySQLPacket) queryCommandExecutor.getQueryRowPacket();
+                if (null == encodedRows) {
+                    encodedRows = new MySQLEncodedRowsPacket(context.alloc().ioBuffer(flushBytesThreshold), charset);
+                }
+                if (!encodedRows.addRow(rowPacket)) {
+                    context.write(encodedRows);
+                    encodedRows = null;
+                    context.write(rowPacket);
+                } else if (encodedRows.getByteBuf().readableBytes() >= flushBytesThreshold) {
+                    context.writeAndFlush(encodedRows);
+                    encodedRows = null;
+                }
+            }
+            if (null != encodedRows) {
+                context.write(encodedRows);
+                encodedRows = null;
+            }
+        } finally {
+            if (null != encodedRows) {
+                encodedRows.release();
+            }
+        }
     }
 }
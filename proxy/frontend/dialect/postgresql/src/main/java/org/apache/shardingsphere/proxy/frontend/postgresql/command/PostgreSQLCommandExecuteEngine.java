@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacketType;
@@ -27,9 +28,12 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.Pos
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLEncodedRowsBuffer;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -41,6 +45,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Optional;
 
@@ -102,10 +107,17 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int flushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        return flushBytesThreshold > 0
+                ? writeEncodedDataPackets(context, databaseConnectionManager, queryCommandExecutor, flushBytesThreshold)
+                : writeDataPackets(context, databaseConnectionManager, queryCommandExecutor, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD));
+    }
+    
+    private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
+                                  final QueryCommandExecutor queryCommandExecutor, final int proxyFrontendFlushThreshold) throws SQLException {
         long dataRows = 0L;
         int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             flushCount++;
             databaseConnectionManager.getConnectionResourceLock().doAwait(context);
@@ -121,4 +133,45 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         }
         return dataRows;
     }
+    
+    private long writeEncodedDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
+                                         final QueryCommandExecutor queryCommandExecutor, final int flushBytesThreshold) throws SQLException {
+        Charset charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        long dataRows = 0L;
+        PostgreSQLEncodedRowsBuffer encodedRows = null;
+        try {
+            while (queryCommandExecutor.next()) {
+                databaseConnectionManager.getConnectionResourceLock().doAwait(context);
+                DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
+                if (!(resultValue instanceof PostgreSQLIdentifierPacket)) {
+                    if (null != encodedRows) {
+                        context.write(encodedRows.getByteBuf());
+                        encodedRows = null;
+                    }
+                    context.write(resultValue);
+                    continue;
+                }
+                if (null == encodedRows) {
+                    encodedRows = new PostgreSQLEncodedRowsBuffer(context.alloc().ioBuffer(flushBytesThreshold), charset);
+                }
+                encodedRows.addRow((PostgreSQLIdentifierPacket) resultValue);
+                if (resultValue instanceof PostgreSQLDataRowPacket) {
+                    dataRows++;
+                }
+                if (encodedRows.getByteBuf().readableBytes() >= flushBytesThreshold) {
+                    context.writeAndFlush(encodedRows.getByteBuf());
+                    encodedRows = null;
+                }
+            }
+            if (null != encodedRows) {
+                context.write(encodedRows.getByteBuf());
+                encodedRows = null;
+            }
+        } finally {
+            if (null != encodedRows) {
+                encodedRows.getByteBuf().release();
+            }
+        }
+        return dataRows;
+    }
 }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark environment.
+ *
+ * <p>Builds a sharded logic database backed by in-memory H2 storage nodes, and exposes every kernel stage of the statement pipeline separately.</p>
+ */
+@Getter
+public final class BenchmarkEnvironment implements AutoCloseable {
+    
+    public static final String DATABASE_NAME = "benchmark_db";
+    
+    public static final int STORAGE_NODE_COUNT = 2;
+    
+    public static final int ORDER_COUNT = 2048;
+    
+    public static final int USER_COUNT = 97;
+    
+    private static final int INSERT_BATCH_SIZE = 64;
+    
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    
+    private final ShardingSphereDataSource dataSource;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ConfigurationProperties props;
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    private final ConnectionContext connectionContext;
+    
+    @Getter(AccessLevel.NONE)
+    private final SQLRouteEngine sqlRouteEngine;
+    
+    @Getter(AccessLevel.NONE)
+    private final SQLRewriteEntry sqlRewriteEntry;
+    
+    @Getter(AccessLevel.NONE)
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    public BenchmarkEnvironment(final BenchmarkScenario scenario, final int shardCount) throws SQLException {
+        String storagePrefix = "benchmark_" + SEQUENCE.getAndIncrement();
+        Map<String, DataSource> dataSourceMap = createStorageDataSources(scenario, storagePrefix, shardCount);
+        dataSource = (ShardingSphereDataSource) ShardingSphereDataSourceFactory.createDataSource(
+                DATABASE_NAME, null, dataSourceMap, BenchmarkRuleConfigurationFactory.create(scenario, STORAGE_NODE_COUNT, shardCount), new Properties());
+        try (ShardingSphereConnection connection = (ShardingSphereConnection) dataSource.getConnection()) {
+            metaData = connection.getContextManager().getMetaDataContexts().getMetaData();
+        }
+        database = metaData.getDatabase(DATABASE_NAME);
+        props = metaData.getProps();
+        sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType());
+        connectionContext = new ConnectionContext(Collections::emptyList);
+        connectionContext.setCurrentDatabaseName(DATABASE_NAME);
+        sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), props);
+        sqlRewriteEntry = new SQLRewriteEntry(database, metaData.getGlobalRuleMetaData(), props);
+        initData();
+    }
+    
+    private Map<String, DataSource> createStorageDataSources(final BenchmarkScenario scenario, final String storagePrefix, final int shardCount) throws SQLException {
+        Map<String, DataSource> result = new LinkedHashMap<>(STORAGE_NODE_COUNT * 2, 1F);
+        for (int i = 0; i < STORAGE_NODE_COUNT; i++) {
+            String jdbcUrl = String.format("jdbc:h2:mem:%s_ds_%d;DATABASE_TO_UPPER=false;MODE=MySQL", storagePrefix, i);
+            HikariDataSource storageNode = createDataSource(jdbcUrl);
+            createTables(storageNode, scenario, shardCount);
+            if (scenario.isReadwriteSplitting()) {
+                result.put("write_ds_" + i, storageNode);
+                result.put("read_ds_" + i, createDataSource(jdbcUrl));
+            } else {
+                result.put("ds_" + i, storageNode);
+            }
+        }
+        return result;
+    }
+    
+    private HikariDataSource createDataSource(final String jdbcUrl) {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(jdbcUrl);
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaximumPoolSize(16);
+        return result;
+    }
+    
+    private void createTables(final DataSource storageNode, final BenchmarkScenario scenario, final int shardCount) throws SQLException {
+        String statusColumn = scenario.isEncrypt() ? "status_cipher" : "status";
+        try (
+                Connection connection = storageNode.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < shardCount; i++) {
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, %s VARCHAR(255), amount DECIMAL(10, 2))", i, statusColumn));
+                statement.execute(String.format("CREATE TABLE t_order_item_%d (item_id BIGINT PRIMARY KEY, order_id BIGINT NOT NULL, user_id INT NOT NULL, quantity INT)", i));
+            }
+        }
+    }
+    
+    private void initData() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int start = 0; start < ORDER_COUNT; start += INSERT_BATCH_SIZE) {
+                insertOrders(connection, start);
+                insertOrderItems(connection, start);
+            }
+        }
+    }
+    
+    private void insertOrders(final Connection connection, final int start) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status, amount) VALUES " + getValuesClause(4))) {
+            int index = 1;
+            for (int orderId = start; orderId < start + INSERT_BATCH_SIZE; orderId++) {
+                preparedStatement.setLong(index++, orderId);
+                preparedStatement.setInt(index++, orderId % USER_COUNT);
+                preparedStatement.setString(index++, 0 == orderId % 2 ? "paid" : "init");
+                preparedStatement.setInt(index++, orderId % 100);
+            }
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private void insertOrderItems(final Connection connection, final int start) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order_item (item_id, order_id, user_id, quantity) VALUES " + getValuesClause(4))) {
+            int index = 1;
+            for (int orderId = start; orderId < start + INSERT_BATCH_SIZE; orderId++) {
+                preparedStatement.setLong(index++, orderId);
+                preparedStatement.setLong(index++, orderId);
+                preparedStatement.setInt(index++, orderId % USER_COUNT);
+                preparedStatement.setInt(index++, 1);
+            }
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private String getValuesClause(final int columnCount) {
+        StringBuilder row = new StringBuilder("(?");
+        for (int i = 1; i < columnCount; i++) {
+            row.append(", ?");
+        }
+        row.append(')');
+        return String.join(", ", Collections.nCopies(INSERT_BATCH_SIZE, row.toString()));
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql benchmark SQL
+     * @param useCache whether to use parse cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final BenchmarkSQL sql, final boolean useCache) {
+        return sqlParserEngine.parse(sql.getSql(), useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param params SQL parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final SQLStatement sqlStatement, final List<Object> params) {
+        SQLStatementContext result = new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(sqlStatement);
+        if (result instanceof ParameterAware) {
+            ((ParameterAware) result).bindParameters(params);
+        }
+        return result;
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param sql benchmark SQL
+     * @return query context
+     */
+    public QueryContext createQueryContext(final BenchmarkSQL sql) {
+        SQLStatementContext sqlStatementContext = bind(parse(sql, true), sql.getParameters());
+        return new QueryContext(sqlStatementContext, sql.getSql(), sql.getParameters(), new HintValueContext(), connectionContext, metaData);
+    }
+    
+    /**
+     * Route query.
+     *
+     * @param queryContext query context
+     * @return route context
+     */
+    public RouteContext route(final QueryContext queryContext) {
+        return sqlRouteEngine.route(queryContext, metaData.getGlobalRuleMetaData(), database);
+    }
+    
+    /**
+     * Rewrite query.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return SQL rewrite result
+     */
+    public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        return sqlRewriteEntry.rewrite(queryContext, routeContext);
+    }
+    
+    /**
+     * Generate execution context.
+     *
+     * @param queryContext query context
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext) {
+        return kernelProcessor.generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), props);
+    }
+    
+    /**
+     * Get storage data source.
+     *
+     * @param dataSourceName actual data source name
+     * @return storage data source
+     */
+    public DataSource getStorageDataSource(final String dataSourceName) {
+        return database.getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        dataSource.close();
+    }
+}
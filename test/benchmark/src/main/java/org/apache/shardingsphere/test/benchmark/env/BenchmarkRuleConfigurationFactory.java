@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.encrypt.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnItemRuleConfiguration;
+import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.readwritesplitting.config.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark rule configuration factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkRuleConfigurationFactory {
+    
+    /**
+     * Create rule configurations.
+     *
+     * @param scenario benchmark scenario
+     * @param storageNodeCount storage node count
+     * @param shardCount table shard count of each storage node
+     * @return created rule configurations
+     */
+    public static Collection<RuleConfiguration> create(final BenchmarkScenario scenario, final int storageNodeCount, final int shardCount) {
+        Collection<RuleConfiguration> result = new LinkedList<>();
+        result.add(createShardingRuleConfiguration(storageNodeCount, shardCount));
+        if (scenario.isEncrypt()) {
+            result.add(createEncryptRuleConfiguration());
+        }
+        if (scenario.isReadwriteSplitting()) {
+            result.add(createReadwriteSplittingRuleConfiguration(storageNodeCount));
+        }
+        return result;
+    }
+    
+    private static ShardingRuleConfiguration createShardingRuleConfiguration(final int storageNodeCount, final int shardCount) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(createShardingTableRuleConfiguration("t_order", storageNodeCount, shardCount));
+        result.getTables().add(createShardingTableRuleConfiguration("t_order_item", storageNodeCount, shardCount));
+        result.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("order_binding", "t_order,t_order_item"));
+        result.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        result.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration(String.format("ds_${user_id %% %d}", storageNodeCount)));
+        result.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithmConfiguration(String.format("t_order_${order_id %% %d}", shardCount)));
+        result.getShardingAlgorithms().put("t_order_item_inline", createInlineAlgorithmConfiguration(String.format("t_order_item_${order_id %% %d}", shardCount)));
+        return result;
+    }
+    
+    private static ShardingTableRuleConfiguration createShardingTableRuleConfiguration(final String logicTable, final int storageNodeCount, final int shardCount) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTable, String.format("ds_${0..%d}.%s_${0..%d}", storageNodeCount - 1, logicTable, shardCount - 1));
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", logicTable + "_inline"));
+        return result;
+    }
+    
+    private static AlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        return new AlgorithmConfiguration("INLINE",
+                PropertiesBuilder.build(new Property("algorithm-expression", algorithmExpression), new Property("allow-range-query-with-inline-sharding", Boolean.TRUE.toString())));
+    }
+    
+    private static EncryptRuleConfiguration createEncryptRuleConfiguration() {
+        EncryptColumnRuleConfiguration columnRuleConfig = new EncryptColumnRuleConfiguration("status", new EncryptColumnItemRuleConfiguration("status_cipher", "aes_encryptor"));
+        EncryptTableRuleConfiguration tableRuleConfig = new EncryptTableRuleConfiguration("t_order", Collections.singleton(columnRuleConfig));
+        AlgorithmConfiguration encryptorConfig = new AlgorithmConfiguration("AES",
+                PropertiesBuilder.build(new Property("aes-key-value", "123456abc"), new Property("digest-algorithm-name", "SHA-1")));
+        return new EncryptRuleConfiguration(Collections.singleton(tableRuleConfig), Collections.singletonMap("aes_encryptor", encryptorConfig));
+    }
+    
+    private static ReadwriteSplittingRuleConfiguration createReadwriteSplittingRuleConfiguration(final int storageNodeCount) {
+        List<ReadwriteSplittingDataSourceGroupRuleConfiguration> dataSourceGroups = IntStream.range(0, storageNodeCount)
+                .mapToObj(each -> new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_" + each, "write_ds_" + each, Collections.singletonList("read_ds_" + each), "round_robin"))
+                .collect(Collectors.toList());
+        return new ReadwriteSplittingRuleConfiguration(dataSourceGroups, Collections.singletonMap("round_robin", new AlgorithmConfiguration("ROUND_ROBIN", null)));
+    }
+}
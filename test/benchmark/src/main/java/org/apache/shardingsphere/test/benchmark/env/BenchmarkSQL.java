@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSQL {
+    
+    POINT_SELECT(true, "SELECT order_id, user_id, status, amount FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(30, 1000)),
+    
+    BINDING_JOIN(true, "SELECT o.order_id, o.status, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?", Arrays.asList(30, 1000)),
+    
+    RANGE_ORDER_BY(true, "SELECT order_id, user_id, status, amount FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id", Arrays.asList(0, 200)),
+    
+    PAGINATION(true, "SELECT order_id, user_id, status, amount FROM t_order ORDER BY order_id LIMIT ?, ?", Arrays.asList(50, 20)),
+    
+    GROUP_BY(true, "SELECT user_id, COUNT(order_id) AS order_count, SUM(amount) AS total_amount FROM t_order GROUP BY user_id ORDER BY user_id", Collections.emptyList()),
+    
+    INSERT(false, "INSERT INTO t_order (order_id, user_id, status, amount) VALUES (?, ?, ?, ?), (?, ?, ?, ?)", Arrays.asList(900001, 1, "init", 10, 900002, 2, "init", 20)),
+    
+    UPDATE(false, "UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", Arrays.asList("paid", 30, 1000));
+    
+    private final boolean query;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+
+/**
+ * Environment aware benchmark, which prepares one benchmark environment per trial for each scenario and shard count.
+ */
+@State(Scope.Benchmark)
+public abstract class EnvironmentAwareBenchmark {
+    
+    @Param({"SHARDING", "SHARDING_ENCRYPT", "SHARDING_READWRITE_SPLITTING"})
+    private BenchmarkScenario scenario;
+    
+    @Param({"4", "16", "64"})
+    private int shardCount;
+    
+    @Getter(AccessLevel.PROTECTED)
+    private BenchmarkEnvironment environment;
+    
+    /**
+     * Set up benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @Setup(Level.Trial)
+    public final void setUpEnvironment() throws Exception {
+        environment = new BenchmarkEnvironment(scenario, shardCount);
+        setUp(environment);
+    }
+    
+    /**
+     * Tear down benchmark environment.
+     *
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public final void tearDownEnvironment() throws Exception {
+        tearDown();
+        environment.close();
+    }
+    
+    protected abstract void setUp(BenchmarkEnvironment environment) throws Exception;
+    
+    protected void tearDown() throws SQLException {
+    }
+}
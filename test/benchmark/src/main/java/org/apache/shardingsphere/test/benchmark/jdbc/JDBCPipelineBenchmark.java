@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.jdbc;
+
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkSQL;
+import org.apache.shardingsphere.test.benchmark.env.EnvironmentAwareBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC pipeline benchmark, which measures parse, bind, route, rewrite, execute and merge end to end through ShardingSphere-JDBC.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JDBCPipelineBenchmark extends EnvironmentAwareBenchmark {
+    
+    @Param({"POINT_SELECT", "BINDING_JOIN", "RANGE_ORDER_BY", "PAGINATION", "GROUP_BY", "UPDATE"})
+    private BenchmarkSQL sql;
+    
+    private Connection connection;
+    
+    private PreparedStatement preparedStatement;
+    
+    @Override
+    protected void setUp(final BenchmarkEnvironment environment) throws SQLException {
+        connection = environment.getDataSource().getConnection();
+        preparedStatement = connection.prepareStatement(sql.getSql());
+    }
+    
+    @Override
+    protected void tearDown() throws SQLException {
+        preparedStatement.close();
+        connection.close();
+    }
+    
+    /**
+     * Execute SQL.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void execute(final Blackhole blackhole) throws SQLException {
+        int index = 1;
+        for (Object each : sql.getParameters()) {
+            preparedStatement.setObject(index++, each);
+        }
+        if (!sql.isQuery()) {
+            blackhole.consume(preparedStatement.executeUpdate());
+            return;
+        }
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    blackhole.consume(resultSet.getObject(i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inline sharding algorithm benchmark.
+ *
+ * <p>Compares the compiled evaluation of {@code t_order_${order_id % 16}} with the Groovy closure evaluation of an equivalent expression which can not be compiled.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InlineShardingAlgorithmBenchmark {
+    
+    private static final String COMPILED_EXPRESSION = "t_order_${order_id % 16}";
+    
+    private static final String GROOVY_EXPRESSION = "t_order_${order_id.mod(16)}";
+    
+    @Param({"COMPILED", "GROOVY"})
+    private String evaluator;
+    
+    @Param("1024")
+    private int shardingValueCount;
+    
+    private InlineShardingAlgorithm shardingAlgorithm;
+    
+    private Collection<String> availableTargetNames;
+    
+    private List<PreciseShardingValue<Comparable<?>>> shardingValues;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        shardingAlgorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE",
+                PropertiesBuilder.build(new Property("algorithm-expression", "COMPILED".equals(evaluator) ? COMPILED_EXPRESSION : GROOVY_EXPRESSION)));
+        availableTargetNames = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        DataNodeInfo dataNodeInfo = new DataNodeInfo("t_order_", 1, '0');
+        shardingValues = new ArrayList<>(shardingValueCount);
+        for (int i = 0; i < shardingValueCount; i++) {
+            shardingValues.add(new PreciseShardingValue<>("t_order", "order_id", dataNodeInfo, (long) i * 7919));
+        }
+    }
+    
+    /**
+     * Benchmark precise sharding.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void doSharding(final Blackhole blackhole) {
+        for (PreciseShardingValue<Comparable<?>> each : shardingValues) {
+            blackhole.consume(shardingAlgorithm.doSharding(availableTargetNames, each));
+        }
+    }
+}
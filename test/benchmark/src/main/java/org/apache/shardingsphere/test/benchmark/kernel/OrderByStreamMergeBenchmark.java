@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkSQL;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkScenario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order by stream merge benchmark.
+ *
+ * <p>Compares the loser tree used by {@link OrderByStreamMergedResult} with the priority queue of {@link OrderByValue} it replaced, over interleaved in-memory shard results.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderByStreamMergeBenchmark {
+    
+    @Param({"PRIORITY_QUEUE", "LOSER_TREE"})
+    private String merger;
+    
+    @Param({"16", "256", "1024"})
+    private int shardCount;
+    
+    @Param("64")
+    private int rowCountPerShard;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingSphereSchema schema;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private final List<List<MemoryQueryResultDataRow>> queryResultRowsList = new ArrayList<>();
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        try (BenchmarkEnvironment environment = new BenchmarkEnvironment(BenchmarkScenario.SHARDING, BenchmarkEnvironment.STORAGE_NODE_COUNT)) {
+            selectStatementContext = (SelectStatementContext) environment.createQueryContext(BenchmarkSQL.RANGE_ORDER_BY).getSqlStatementContext();
+            schema = environment.getDatabase().getSchema(BenchmarkEnvironment.DATABASE_NAME);
+        }
+        queryResultMetaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 50, 0),
+                new RawQueryResultColumnMetaData("t_order", "amount", "amount", Types.INTEGER, "INT", 11, 0)));
+        Map<String, Integer> columnLabelIndexMap = new CaseInsensitiveMap<>();
+        for (int i = 1; i <= queryResultMetaData.getColumnCount(); i++) {
+            columnLabelIndexMap.put(queryResultMetaData.getColumnLabel(i), i);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        for (int i = 0; i < shardCount; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowCountPerShard);
+            for (int j = 0; j < rowCountPerShard; j++) {
+                long orderId = (long) j * shardCount + i;
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(orderId, (int) (orderId % BenchmarkEnvironment.USER_COUNT), "init", j)));
+            }
+            queryResultRowsList.add(rows);
+        }
+    }
+    
+    /**
+     * Merge ordered query results.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : queryResultRowsList) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        if ("LOSER_TREE".equals(merger)) {
+            mergeWithLoserTree(queryResults, blackhole);
+        } else {
+            mergeWithPriorityQueue(queryResults, blackhole);
+        }
+    }
+    
+    private void mergeWithLoserTree(final List<QueryResult> queryResults, final Blackhole blackhole) throws SQLException {
+        OrderByStreamMergedResult mergedResult = new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    private void mergeWithPriorityQueue(final List<QueryResult> queryResults, final Blackhole blackhole) throws SQLException {
+        PriorityQueue<OrderByValue> orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            OrderByValue orderByValue = new OrderByValue(each, selectStatementContext.getOrderByContext().getItems(), selectStatementContext, schema);
+            if (orderByValue.next()) {
+                orderByValuesQueue.offer(orderByValue);
+            }
+        }
+        while (!orderByValuesQueue.isEmpty()) {
+            OrderByValue orderByValue = orderByValuesQueue.poll();
+            blackhole.consume(orderByValue.getQueryResult().getValue(1, Object.class));
+            if (orderByValue.next()) {
+                orderByValuesQueue.offer(orderByValue);
+            }
+        }
+    }
+}
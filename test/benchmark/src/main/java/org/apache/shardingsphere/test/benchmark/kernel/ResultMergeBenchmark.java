@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkSQL;
+import org.apache.shardingsphere.test.benchmark.env.EnvironmentAwareBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result merge benchmark.
+ *
+ * <p>Query results of every route unit are fetched from storage nodes once and replayed from memory, so only merge and decoration are measured.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultMergeBenchmark extends EnvironmentAwareBenchmark {
+    
+    @Param({"POINT_SELECT", "RANGE_ORDER_BY", "PAGINATION", "GROUP_BY"})
+    private BenchmarkSQL sql;
+    
+    private ExecutionContext executionContext;
+    
+    private MergeEngine mergeEngine;
+    
+    private final List<RawQueryResultMetaData> queryResultMetaDataList = new ArrayList<>();
+    
+    private final List<List<MemoryQueryResultDataRow>> queryResultRowsList = new ArrayList<>();
+    
+    @Override
+    protected void setUp(final BenchmarkEnvironment environment) throws SQLException {
+        executionContext = environment.generateExecutionContext(environment.createQueryContext(sql));
+        mergeEngine = new MergeEngine(environment.getMetaData(), environment.getDatabase(), environment.getProps(), environment.getConnectionContext());
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            load(environment, each);
+        }
+    }
+    
+    private void load(final BenchmarkEnvironment environment, final ExecutionUnit executionUnit) throws SQLException {
+        try (
+                Connection connection = environment.getStorageDataSource(executionUnit.getDataSourceName()).getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(executionUnit.getSqlUnit().getSql())) {
+            int index = 1;
+            for (Object each : executionUnit.getSqlUnit().getParameters()) {
+                preparedStatement.setObject(index++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                queryResultMetaDataList.add(createQueryResultMetaData(resultSet.getMetaData()));
+                queryResultRowsList.add(createQueryResultRows(resultSet));
+            }
+        }
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(resultSetMetaData.getColumnCount());
+        for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+            columns.add(new RawQueryResultColumnMetaData(resultSetMetaData.getTableName(i), resultSetMetaData.getColumnName(i), resultSetMetaData.getColumnLabel(i),
+                    resultSetMetaData.getColumnType(i), resultSetMetaData.getColumnTypeName(i), resultSetMetaData.getPrecision(i), resultSetMetaData.getScale(i)));
+        }
+        return new RawQueryResultMetaData(columns);
+    }
+    
+    private List<MemoryQueryResultDataRow> createQueryResultRows(final ResultSet resultSet) throws SQLException {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>();
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        while (resultSet.next()) {
+            List<Object> row = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                row.add(resultSet.getObject(i));
+            }
+            result.add(new MemoryQueryResultDataRow(row));
+        }
+        return result;
+    }
+    
+    /**
+     * Merge query results.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(queryResultRowsList.size());
+        for (int i = 0; i < queryResultRowsList.size(); i++) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaDataList.get(i), queryResultRowsList.get(i)));
+        }
+        int columnCount = queryResultMetaDataList.get(0).getColumnCount();
+        MergedResult mergedResult = mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadType;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Proxy connection executor benchmark.
+ *
+ * <p>Every connection owns a thread bound executor as XA transactions require, and each operation runs one command on every connection concurrently,
+ * so the benchmark compares how platform threads and virtual threads scale with the number of client connections.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyConnectionExecutorBenchmark {
+    
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ExecutorThreadType threadType;
+    
+    @Param({"100", "1000", "5000"})
+    private int connectionCount;
+    
+    @Param("100")
+    private long blockingMicros;
+    
+    /**
+     * Set up.
+     *
+     * @throws ExecutionException execution exception
+     * @throws InterruptedException interrupted exception
+     */
+    @Setup(Level.Trial)
+    public void setup() throws ExecutionException, InterruptedException {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().register(i, threadType);
+        }
+        executeCommands();
+    }
+    
+    /**
+     * Execute one command on every connection.
+     *
+     * @return executed command count
+     * @throws ExecutionException execution exception
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public int executeCommands() throws ExecutionException, InterruptedException {
+        Collection<Future<Integer>> futures = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            futures.add(ConnectionThreadExecutorGroup.getInstance().get(i).submit(this::executeCommand));
+        }
+        int result = 0;
+        for (Future<Integer> each : futures) {
+            result += each.get();
+        }
+        return result;
+    }
+    
+    private int executeCommand() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(blockingMicros));
+        return 1;
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(i);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkEnvironment;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkScenario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy database connection manager benchmark.
+ *
+ * <p>Every operation looks up the cached backend connections of one point query and the used data source names of the session,
+ * which is the per statement overhead of the connection manager once the session holds its connections.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyDatabaseConnectionManagerBenchmark {
+    
+    @Param({"benchmark_db", "Benchmark_DB"})
+    private String databaseName;
+    
+    private BenchmarkEnvironment environment;
+    
+    private ProxyDatabaseConnectionManager databaseConnectionManager;
+    
+    private String[] dataSourceNames;
+    
+    private int sequence;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        environment = new BenchmarkEnvironment(BenchmarkScenario.SHARDING, 4);
+        try (ShardingSphereConnection connection = (ShardingSphereConnection) environment.getDataSource().getConnection()) {
+            ProxyContext.init(connection.getContextManager());
+        }
+        ConnectionSession connectionSession = new ConnectionSession(environment.getDatabase().getProtocolType(), new DefaultAttributeMap());
+        connectionSession.setGrantee(new Grantee("root", "%"));
+        connectionSession.setCurrentDatabaseName(BenchmarkEnvironment.DATABASE_NAME);
+        databaseConnectionManager = connectionSession.getDatabaseConnectionManager();
+        dataSourceNames = new String[BenchmarkEnvironment.STORAGE_NODE_COUNT];
+        for (int i = 0; i < dataSourceNames.length; i++) {
+            dataSourceNames[i] = "ds_" + i;
+            databaseConnectionManager.getConnections(BenchmarkEnvironment.DATABASE_NAME, dataSourceNames[i], 0, 1, ConnectionMode.MEMORY_STRICTLY);
+        }
+    }
+    
+    /**
+     * Get cached connection of point query.
+     *
+     * @return cached connection
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public Connection getConnection() throws SQLException {
+        String dataSourceName = dataSourceNames[sequence++ % dataSourceNames.length];
+        return databaseConnectionManager.getConnections(databaseName, dataSourceName, 0, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+    }
+    
+    /**
+     * Get used data source names.
+     *
+     * @return used data source names count
+     */
+    @Benchmark
+    public int getUsedDataSourceNames() {
+        return databaseConnectionManager.getUsedDataSourceNames().size();
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        databaseConnectionManager.closeConnections(false);
+        environment.close();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.database.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.database.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLEncodedRowsPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLEncodedRowsBuffer;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Proxy query data write benchmark.
+ *
+ * <p>Compares writing every row packet to channel and flushing by records count with encoding rows into pooled buffers and flushing by bytes.
+ * One operation writes one row, so that the throughput is rows per second, and {@code -prof gc} reports bytes allocated per row.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyWriteQueryDataBenchmark {
+    
+    private static final int ROW_COUNT = 1000;
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String protocol;
+    
+    @Param({"PACKET", "ENCODED"})
+    private String writer;
+    
+    @Param("128")
+    private int flushThreshold;
+    
+    @Param("65536")
+    private int flushBytesThreshold;
+    
+    private EmbeddedChannel channel;
+    
+    private ChannelHandlerContext context;
+    
+    private List<DatabasePacket> rows;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean isMySQL = "MySQL".equals(protocol);
+        DatabasePacketCodecEngine codecEngine = isMySQL ? new MySQLPacketCodecEngine() : new PostgreSQLPacketCodecEngine();
+        ChannelInboundHandlerAdapter frontendHandler = new ChannelInboundHandlerAdapter();
+        channel = new EmbeddedChannel(new PacketCodec(codecEngine), frontendHandler);
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        channel.attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).set(new AtomicInteger());
+        context = channel.pipeline().context(frontendHandler);
+        rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Collection<Object> data = Arrays.asList(i, "order_" + i, "user_" + i % 100, new BigDecimal("1024.50"), "2024-01-01 00:00:00", null, "status_ok", (long) i * 31L);
+            rows.add(isMySQL ? new MySQLTextResultSetRowPacket(data) : new PostgreSQLDataRowPacket(data));
+        }
+    }
+    
+    /**
+     * Write query data.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void writeQueryData() {
+        if ("PACKET".equals(writer)) {
+            writePackets();
+        } else if ("MySQL".equals(protocol)) {
+            writeMySQLEncodedRows();
+        } else {
+            writePostgreSQLEncodedRows();
+        }
+        context.flush();
+        channel.releaseOutbound();
+    }
+    
+    private void writePackets() {
+        int count = 0;
+        for (DatabasePacket each : rows) {
+            context.write(each);
+            if (flushThreshold == ++count) {
+                context.flush();
+                count = 0;
+            }
+        }
+    }
+    
+    private void writeMySQLEncodedRows() {
+        MySQLEncodedRowsPacket encodedRows = null;
+        for (DatabasePacket each : rows) {
+            if (null == encodedRows) {
+                encodedRows = new MySQLEncodedRowsPacket(context.alloc().ioBuffer(flushBytesThreshold), StandardCharsets.UTF_8);
+            }
+            encodedRows.addRow((MySQLPacket) each);
+            if (encodedRows.getByteBuf().readableBytes() >= flushBytesThreshold) {
+                context.writeAndFlush(encodedRows);
+                encodedRows = null;
+            }
+        }
+        if (null != encodedRows) {
+            context.write(encodedRows);
+        }
+    }
+    
+    private void writePostgreSQLEncodedRows() {
+        PostgreSQLEncodedRowsBuffer encodedRows = null;
+        for (DatabasePacket each : rows) {
+            if (null == encodedRows) {
+                encodedRows = new PostgreSQLEncodedRowsBuffer(context.alloc().ioBuffer(flushBytesThreshold), StandardCharsets.UTF_8);
+            }
+            encodedRows.addRow((PostgreSQLIdentifierPacket) each);
+            if (encodedRows.getByteBuf().readableBytes() >= flushBytesThreshold) {
+                context.writeAndFlush(encodedRows.getByteBuf());
+                encodedRows = null;
+            }
+        }
+        if (null != encodedRows) {
+            context.write(encodedRows.getByteBuf());
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class BenchmarkEnvironmentTest {
+    
+    private static final int SHARD_COUNT = 4;
+    
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(BenchmarkScenario.class)
+    void assertGenerateExecutionContext(final BenchmarkScenario scenario) throws SQLException {
+        try (BenchmarkEnvironment environment = new BenchmarkEnvironment(scenario, SHARD_COUNT)) {
+            ExecutionContext pointSelectContext = environment.generateExecutionContext(environment.createQueryContext(BenchmarkSQL.POINT_SELECT));
+            assertThat(pointSelectContext.getExecutionUnits().size(), is(1));
+            ExecutionContext rangeContext = environment.generateExecutionContext(environment.createQueryContext(BenchmarkSQL.RANGE_ORDER_BY));
+            assertThat(rangeContext.getExecutionUnits().size(), is(BenchmarkEnvironment.STORAGE_NODE_COUNT * SHARD_COUNT));
+        }
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(BenchmarkScenario.class)
+    void assertExecuteQuery(final BenchmarkScenario scenario) throws SQLException {
+        try (
+                BenchmarkEnvironment environment = new BenchmarkEnvironment(scenario, SHARD_COUNT);
+                Connection connection = environment.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(BenchmarkSQL.POINT_SELECT.getSql())) {
+            preparedStatement.setObject(1, BenchmarkSQL.POINT_SELECT.getParameters().get(0));
+            preparedStatement.setObject(2, BenchmarkSQL.POINT_SELECT.getParameters().get(1));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertThat(resultSet.next(), is(true));
+                assertThat(resultSet.getString("status"), is("paid"));
+            }
+        }
+    }
+}
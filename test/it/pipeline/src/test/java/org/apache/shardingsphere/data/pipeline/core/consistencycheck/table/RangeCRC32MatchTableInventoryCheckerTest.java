@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.Range;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeCRC32MatchTableInventoryCheckerTest {
+    
+    private static final int RECORDS_COUNT = 5000;
+    
+    private PipelineDataSource sourceDataSource;
+    
+    private PipelineDataSource targetDataSource;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        sourceDataSource = createDataSource();
+        targetDataSource = createDataSource();
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        sourceDataSource.close();
+        targetDataSource.close();
+    }
+    
+    private PipelineDataSource createDataSource() throws SQLException {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(String.format("jdbc:h2:mem:range_crc32_%s;DATABASE_TO_UPPER=false;MODE=MySQL", RandomStringUtils.randomAlphanumeric(9)));
+        dataSource.setUsername("root");
+        dataSource.setPassword("root");
+        dataSource.setMaximumPoolSize(10);
+        PipelineDataSource result = new PipelineDataSource(dataSource, TypedSPILoader.getService(DatabaseType.class, "H2"));
+        try (
+                Connection connection = result.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(12))");
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= RECORDS_COUNT; i++) {
+                    preparedStatement.setInt(1, i);
+                    preparedStatement.setInt(2, i % 10);
+                    preparedStatement.setString(3, "OK");
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    void assertCheckMatched() {
+        RangeCRC32MatchTableInventoryChecker checker = new RangeCRC32MatchTableInventoryChecker(createCheckParameter(), 4, 16L, 3);
+        assertTrue(checker.checkSingleTableInventoryData().isMatched());
+        assertTrue(checker.getUnmatchedRanges().isEmpty());
+    }
+    
+    @Test
+    void assertCheckUnmatched() throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET status='FAILED' WHERE order_id=1234");
+            statement.execute("DELETE FROM t_order WHERE order_id=4321");
+        }
+        RangeCRC32MatchTableInventoryChecker checker = new RangeCRC32MatchTableInventoryChecker(createCheckParameter(), 4, 16L, 3);
+        assertFalse(checker.checkSingleTableInventoryData().isMatched());
+        assertThat(checker.getUnmatchedRanges().size(), is(2));
+        Iterator<Range<Long>> actual = checker.getUnmatchedRanges().iterator();
+        assertUnmatchedRange(actual.next(), 1234L);
+        assertUnmatchedRange(actual.next(), 4321L);
+    }
+    
+    private void assertUnmatchedRange(final Range<Long> actual, final long expectedUniqueKeyValue) {
+        assertTrue(actual.contains(expectedUniqueKeyValue));
+        assertTrue(actual.getMaximum() - actual.getMinimum() < 16L);
+    }
+    
+    private TableInventoryCheckParameter createCheckParameter() {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        progressContext.getTableCheckRangePositions().add(new TableCheckRangePosition(0, "ds_0.t_order", "t_order", new UnsupportedKeyIngestPosition(), new UnsupportedKeyIngestPosition(), null));
+        return new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, new QualifiedTable(null, "t_order"), new QualifiedTable(null, "t_order"),
+                Arrays.asList("order_id", "user_id", "status"), Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "int", false, true, true)), null, progressContext);
+    }
+}
@@ -25,6 +25,9 @@ import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContext
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Pipeline SQL builder for H2.
@@ -36,6 +39,12 @@ public final class H2PipelineSQLBuilder implements DialectPipelineSQLBuilder {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyRangeCRC32SQL(final String qualifiedTableName, final List<String> columnNames, final String uniqueKey) {
+        String checksums = columnNames.stream().map(each -> String.format("BIT_XOR_AGG(ORA_HASH(%s))", each)).collect(Collectors.joining(", "));
+        return Optional.of(String.format("SELECT %s, COUNT(1) FROM %s WHERE %s>=? AND %s<=?", checksums, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         ShardingSpherePreconditions.checkState("t_order".equalsIgnoreCase(tableName), () -> new CreateTableSQLGenerateException(tableName));